@@ -674,8 +674,7 @@ class ConfigurationCacheDependencyResolutionFeaturesIntegrationTest extends Abst
 
         when:
         def v4 = remoteRepo.module("thing", "lib", "1.4").publish()
-        moduleMetaData.expectHead()
-        moduleMetaData.expectGet()
+        moduleMetaData.expectConditionalGet()
         v4.pom.expectGet()
         v4.artifact.expectGet()
 
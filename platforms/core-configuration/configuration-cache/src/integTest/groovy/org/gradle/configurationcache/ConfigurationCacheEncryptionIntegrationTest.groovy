@@ -72,6 +72,67 @@ class ConfigurationCacheEncryptionIntegrationTest extends AbstractConfigurationC
         "AES/CBC/PKCS5PADDING"   | EncryptionKind.ENV_VAR
     }
 
+    def "compressed configuration cache can be loaded without errors from #source"() {
+        given:
+        def additionalOpts = [
+            "-Dorg.gradle.configuration-cache.internal.compression=true"
+        ]
+        def configurationCache = newConfigurationCacheFixture()
+        runWithEncryption(source, ["help"], additionalOpts)
+
+        when:
+        runWithEncryption(source, ["help"], additionalOpts)
+
+        then:
+        configurationCache.assertStateLoaded()
+
+        when:
+        runWithEncryption(source, ["help"])
+
+        then:
+        configurationCache.assertStateStored()
+
+        where:
+        source << [EncryptionKind.NONE, EncryptionKind.KEYSTORE, EncryptionKind.ENV_VAR]
+    }
+
+    def "compressed configuration cache state is not stored as plain text when not encrypted"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        buildFile """
+            class ValueTask extends DefaultTask {
+                @Internal
+                List<String> values = new ArrayList()
+            }
+            tasks.register("useValue", ValueTask) {
+                it.values += "compressed_value"
+            }
+            tasks.withType(ValueTask).configureEach {
+                doLast {
+                    println("Running \${name}")
+                    assert it.values == ["compressed_value"]
+                }
+            }
+        """
+        def additionalOpts = [
+            "-Dorg.gradle.configuration-cache.internal.compression=true"
+        ]
+
+        when:
+        runWithEncryption(EncryptionKind.NONE, ["useValue"], additionalOpts)
+
+        then:
+        configurationCache.assertStateStored()
+        !isFoundInDirectory(new File(this.testDirectory, ".gradle/configuration-cache"), "compressed_value".getBytes())
+
+        when:
+        runWithEncryption(EncryptionKind.NONE, ["useValue"], additionalOpts)
+
+        then:
+        configurationCache.assertStateLoaded()
+        outputContains("Running useValue")
+    }
+
     def "configuration cache encryption enablement is #enabled if kind=#kind"() {
         given:
         def configurationCache = newConfigurationCacheFixture()
@@ -16,6 +16,8 @@
 
 package org.gradle.configurationcache
 
+import org.gradle.integtests.fixtures.BuildOperationsFixture
+
 class ConfigurationCacheMultiProjectIntegrationTest extends AbstractConfigurationCacheIntegrationTest {
 
     def "reuses cache for absolute task invocation from subproject dir across dirs"() {
@@ -114,4 +116,159 @@ class ConfigurationCacheMultiProjectIntegrationTest extends AbstractConfiguratio
         result.assertTasksExecuted(':ok', ':a:ok', ':b:ok')
         configurationCache.assertStateLoaded()
     }
+
+    def "stores and loads the tasks of each project concurrently when enabled"() {
+        given:
+        def operations = new BuildOperationsFixture(executer, temporaryFolder)
+        settingsFile << """
+            include 'a', 'b'
+        """
+        buildScript """
+            abstract class Greet extends DefaultTask {
+                @Input abstract Property<String> getGreeting()
+                @TaskAction def greet() { println greeting.get() + " from " + path }
+            }
+            allprojects {
+                def first = tasks.register('first', Greet) { greeting = 'hi' }
+                tasks.register('second', Greet) {
+                    greeting = 'bye'
+                    dependsOn first
+                }
+            }
+            project(':b') {
+                tasks.named('first') { dependsOn ':a:second' }
+            }
+        """
+        def configurationCache = newConfigurationCacheFixture()
+        executer.beforeExecute {
+            withArgument("-Dorg.gradle.configuration-cache.internal.parallel-work-graph=true")
+        }
+
+        when:
+        configurationCacheRun ':b:second'
+
+        then:
+        configurationCache.assertStateStored()
+        result.assertTasksExecuted(':a:first', ':a:second', ':b:first', ':b:second')
+        outputContains("bye from :b:second")
+        operations.all(~/Store configuration cache work shard .*/)*.displayName.toSet() == [
+            "Store configuration cache work shard ':a'",
+            "Store configuration cache work shard ':b'"
+        ] as Set
+
+        when:
+        configurationCacheRun ':b:second'
+
+        then:
+        configurationCache.assertStateLoaded()
+        result.assertTasksExecuted(':a:first', ':a:second', ':b:first', ':b:second')
+        outputContains("bye from :b:second")
+        operations.all(~/Load configuration cache work shard .*/)*.displayName.toSet() == [
+            "Load configuration cache work shard ':a'",
+            "Load configuration cache work shard ':b'"
+        ] as Set
+        operations.all(WorkGraphShardBuildOperationType).collectEntries { [it.details.shardName, it.result.taskCount] } == [':a': 2, ':b': 2]
+    }
+
+    def "preserves the identity of beans shared by the tasks of different projects when storing tasks concurrently"() {
+        given:
+        def operations = new BuildOperationsFixture(executer, temporaryFolder)
+        settingsFile << """
+            include 'a', 'b'
+        """
+        buildScript """
+            import java.util.concurrent.atomic.AtomicInteger
+
+            abstract class Counter implements BuildService<BuildServiceParameters.None> {
+                final AtomicInteger count = new AtomicInteger()
+            }
+            abstract class Greeting implements ValueSource<String, ValueSourceParameters.None> {
+                String obtain() { "hello" }
+            }
+            abstract class Upper implements TransformAction<TransformParameters.None> {
+                @InputArtifact abstract Provider<FileSystemLocation> getInput()
+                void transform(TransformOutputs outputs) {
+                    def file = input.get().asFile
+                    outputs.file(file.name + ".upper").text = file.text.toUpperCase()
+                }
+            }
+            abstract class Consume extends DefaultTask {
+                @InputFiles abstract ConfigurableFileCollection getInputFiles()
+                @Input abstract Property<String> getGreeting()
+                @Internal abstract Property<Counter> getCounter()
+                @TaskAction def consume() {
+                    println greeting.get() + " " + inputFiles.files*.text + " #" + counter.get().count.incrementAndGet()
+                }
+            }
+
+            def color = Attribute.of('color', String)
+            def counterService = gradle.sharedServices.registerIfAbsent('counter', Counter) {}
+            def greetingValue = providers.of(Greeting) {}
+            allprojects {
+                configurations {
+                    outgoing {
+                        canBeResolved = false
+                        attributes.attribute(color, 'blue')
+                    }
+                    incoming {
+                        canBeConsumed = false
+                        attributes.attribute(color, 'blue')
+                    }
+                }
+                dependencies {
+                    attributesSchema { attribute(color) }
+                    registerTransform(Upper) {
+                        from.attribute(color, 'blue')
+                        to.attribute(color, 'red')
+                    }
+                }
+                def projectName = name
+                def produce = tasks.register('produce') {
+                    def output = layout.buildDirectory.file('out.txt')
+                    outputs.file(output)
+                    doLast { output.get().asFile.text = projectName }
+                }
+                artifacts.add('outgoing', layout.buildDirectory.file('out.txt')) { builtBy produce }
+                tasks.register('consume', Consume) {
+                    inputFiles.from(configurations.incoming.incoming.artifactView { attributes.attribute(color, 'red') }.files)
+                    greeting = greetingValue
+                    counter = counterService
+                    usesService(counterService)
+                }
+            }
+            project(':a') {
+                dependencies { incoming project(':b') }
+            }
+            project(':b') {
+                dependencies { incoming project(':a') }
+            }
+        """
+        def configurationCache = newConfigurationCacheFixture()
+        executer.beforeExecute {
+            withArgument("-Dorg.gradle.configuration-cache.internal.parallel-work-graph=true")
+        }
+
+        when:
+        configurationCacheRun ':a:consume', ':b:consume'
+
+        then:
+        configurationCache.assertStateStored()
+        outputContains("hello [B] #")
+        outputContains("hello [A] #")
+        // The build service is shared by both tasks
+        outputContains(" #2")
+
+        when:
+        configurationCacheRun ':a:consume', ':b:consume'
+
+        then:
+        configurationCache.assertStateLoaded()
+        outputContains("hello [B] #")
+        outputContains("hello [A] #")
+        outputContains(" #2")
+        operations.all(~/Load configuration cache work shard .*/)*.displayName.toSet() == [
+            "Load configuration cache work shard ':a'",
+            "Load configuration cache work shard ':b'"
+        ] as Set
+    }
 }
@@ -335,6 +335,63 @@ class IsolatedProjectsToolingApiBuildActionIntegrationTest extends AbstractIsola
         }
     }
 
+    def "invalidates only cached model of project that reads system properties by prefix when they change"() {
+        given:
+        withSomeToolingModelBuilderPluginInBuildSrc("""
+            project.providers.systemPropertiesPrefixedBy("\${project.name}-input.").get()
+        """)
+        settingsFile << """
+            include("a")
+            include("b")
+        """
+        file("a/build.gradle") << """
+            plugins.apply(my.MyPlugin)
+        """
+        file("b/build.gradle") << """
+            plugins.apply(my.MyPlugin)
+        """
+
+        when:
+        executer.withArguments(ENABLE_CLI, "-Da-input.one=1")
+        def model = runBuildAction(new FetchCustomModelForEachProject())
+
+        then:
+        model.size() == 2
+
+        and:
+        fixture.assertStateStored {
+            projectConfigured(":buildSrc")
+            projectConfigured(":")
+            buildModelCreated()
+            modelsCreated(":a", ":b")
+        }
+
+        when:
+        executer.withArguments(ENABLE_CLI, "-Da-input.one=1", "-Da-input.two=2")
+        def model2 = runBuildAction(new FetchCustomModelForEachProject())
+
+        then:
+        model2.size() == 2
+        model2[0].message == "It works from project :a"
+        model2[1].message == "It works from project :b"
+
+        and:
+        fixture.assertStateUpdated {
+            systemPropertiesPrefixedByChanged("a-input.")
+            projectConfigured(":buildSrc")
+            projectsConfigured(":")
+            modelsCreated(":a")
+            modelsReused(":", ":b", ":buildSrc")
+        }
+
+        when:
+        executer.withArguments(ENABLE_CLI, "-Da-input.one=1", "-Da-input.two=2")
+        runBuildAction(new FetchCustomModelForEachProject())
+
+        then:
+        fixture.assertStateLoaded()
+    }
+
     def "caches execution of BuildAction that queries each model multiple times"() {
         given:
         withSomeToolingModelBuilderPluginInBuildSrc()
@@ -21,6 +21,7 @@ import org.gradle.internal.configurationcache.ConfigurationCacheStoreBuildOperat
 import org.gradle.internal.operations.BuildOperationContext
 import org.gradle.internal.operations.BuildOperationDescriptor
 import org.gradle.internal.operations.BuildOperationRunner
+import org.gradle.internal.operations.BuildOperationType
 import org.gradle.internal.operations.CallableBuildOperation
 import org.gradle.internal.operations.RunnableBuildOperation
 import java.io.File
@@ -59,6 +60,68 @@ fun BuildOperationRunner.withStoreOperation(@Suppress("UNUSED_PARAMETER") cacheK
     })
 
 
+internal
+fun storeWorkGraphShardOperation(shardName: String, stateFile: File, block: () -> Int): RunnableBuildOperation =
+    workGraphShardOperation("Store configuration cache work shard '$shardName'", shardName, stateFile, block)
+
+
+internal
+fun loadWorkGraphShardOperation(shardName: String, stateFile: File, block: () -> Int): RunnableBuildOperation =
+    workGraphShardOperation("Load configuration cache work shard '$shardName'", shardName, stateFile, block)
+
+
+private
+fun workGraphShardOperation(displayName: String, shardName: String, stateFile: File, block: () -> Int) =
+    object : RunnableBuildOperation {
+        override fun description(): BuildOperationDescriptor.Builder = BuildOperationDescriptor
+            .displayName(displayName)
+            .details(WorkGraphShardDetails(shardName))
+
+        override fun run(context: BuildOperationContext) {
+            val taskCount = block()
+            context.setResult(WorkGraphShardResult(taskCount, stateFile))
+        }
+    }
+
+
+/**
+ * Stores or loads the tasks of a single project of the work graph of a build, concurrently with the tasks of other projects.
+ */
+internal
+class WorkGraphShardBuildOperationType : BuildOperationType<WorkGraphShardBuildOperationType.Details, WorkGraphShardBuildOperationType.Result> {
+
+    interface Details {
+        /**
+         * The path of the project whose tasks are in the shard.
+         */
+        val shardName: String
+    }
+
+    interface Result {
+        /**
+         * The number of tasks in the shard.
+         */
+        val taskCount: Int
+
+        /**
+         * The number of bytes of the state file of the shard.
+         */
+        val shardSize: Long
+    }
+}
+
+
+private
+data class WorkGraphShardDetails(override val shardName: String) : WorkGraphShardBuildOperationType.Details
+
+
+private
+data class WorkGraphShardResult(override val taskCount: Int, val stateFile: File) : WorkGraphShardBuildOperationType.Result {
+    override val shardSize: Long
+        get() = stateFile.length()
+}
+
+
 private
 object LoadDetails : ConfigurationCacheLoadBuildOperationType.Details
 
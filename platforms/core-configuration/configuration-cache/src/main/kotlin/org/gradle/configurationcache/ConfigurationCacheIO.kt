@@ -56,6 +56,9 @@ import org.gradle.util.Path
 import java.io.File
 import java.io.InputStream
 import java.io.OutputStream
+import java.util.zip.Deflater
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
 
 
 @ServiceScope(Scope.Build::class)
@@ -186,12 +189,24 @@ class ConfigurationCacheIO internal constructor(
             }
         }
 
+    internal
+    fun <T> writeWorkShardTo(stateFile: ConfigurationCacheStateFile, action: suspend DefaultWriteContext.() -> T): T =
+        writeConfigurationCacheState(stateFile) {
+            action()
+        }
+
+    internal
+    fun <T> readWorkShardFrom(stateFile: ConfigurationCacheStateFile, action: suspend DefaultReadContext.() -> T): T =
+        readConfigurationCacheState(stateFile) {
+            action()
+        }
+
     private
     fun <T> readConfigurationCacheState(
         stateFile: ConfigurationCacheStateFile,
         action: suspend DefaultReadContext.(ConfigurationCacheState) -> T
     ): T {
-        return withReadContextFor(encryptionService.inputStream(stateFile.stateType, stateFile::inputStream)) { codecs ->
+        return withReadContextFor(decompressing(encryptionService.inputStream(stateFile.stateType, stateFile::inputStream))) { codecs ->
             ConfigurationCacheState(codecs, stateFile, eventEmitter, host).run {
                 action(this)
             }
@@ -203,7 +218,7 @@ class ConfigurationCacheIO internal constructor(
         stateFile: ConfigurationCacheStateFile,
         action: suspend DefaultWriteContext.(ConfigurationCacheState) -> T
     ): T {
-        val (context, codecs) = writerContextFor(encryptionService.outputStream(stateFile.stateType, stateFile::outputStream)) {
+        val (context, codecs) = writerContextFor(compressing(encryptionService.outputStream(stateFile.stateType, stateFile::outputStream))) {
             host.currentBuild.gradle.owner.displayName.displayName + " state"
         }
         return context.useToRun {
@@ -213,6 +228,26 @@ class ConfigurationCacheIO internal constructor(
         }
     }
 
+    /**
+     * Compression is applied before encryption, as encrypted content does not compress.
+     */
+    private
+    fun compressing(outputStream: OutputStream): OutputStream =
+        if (startParameter.compressionRequested) {
+            object : GZIPOutputStream(outputStream, COMPRESSION_BUFFER_SIZE) {
+                init {
+                    def.setLevel(Deflater.BEST_SPEED)
+                }
+            }
+        } else {
+            outputStream
+        }
+
+    private
+    fun decompressing(inputStream: InputStream): InputStream =
+        if (startParameter.compressionRequested) GZIPInputStream(inputStream, COMPRESSION_BUFFER_SIZE)
+        else inputStream
+
     internal
     fun writeModelTo(model: Any, stateFile: ConfigurationCacheStateFile) {
         writeConfigurationCacheState(stateFile) {
@@ -384,3 +419,7 @@ class ConfigurationCacheIO internal constructor(
     inline fun <reified T> factory() =
         host.factory(T::class.java)
 }
+
+
+private
+const val COMPRESSION_BUFFER_SIZE = 64 * 1024
@@ -75,6 +75,7 @@ class ConfigurationCacheKey(
         putBoolean(startParameter.isOffline)
         putBoolean(startParameter.isIsolatedProjects)
         putBuildScan()
+        putBoolean(startParameter.compressionRequested)
         putBoolean(encryptionConfiguration.isEncrypting)
         putHash(encryptionConfiguration.encryptionKeyHashCode)
     }
@@ -117,6 +117,12 @@ class ConfigurationCacheRepository(
                 includedBuildFileFor(file, build),
                 stateType
             )
+
+        override fun stateFileForWorkShard(index: Int): ConfigurationCacheStateFile =
+            ReadableConfigurationCacheStateFile(
+                workShardFileFor(file, index),
+                stateType
+            )
     }
 
     private
@@ -153,6 +159,13 @@ class ConfigurationCacheRepository(
                 stateType,
                 onFileAccess
             )
+
+        override fun stateFileForWorkShard(index: Int): ConfigurationCacheStateFile =
+            WriteableConfigurationCacheStateFile(
+                workShardFileFor(file, index),
+                stateType,
+                onFileAccess
+            )
     }
 
     private
@@ -205,6 +218,12 @@ class ConfigurationCacheRepository(
             resolveSibling("$name.${build.name}")
         }
 
+    private
+    fun workShardFileFor(parentStateFile: File, index: Int) =
+        parentStateFile.run {
+            resolveSibling("$name.shard-$index")
+        }
+
     private
     val cleanupDepth = 1
 
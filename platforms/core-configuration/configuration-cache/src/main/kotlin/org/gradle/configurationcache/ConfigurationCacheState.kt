@@ -34,13 +34,18 @@ import org.gradle.caching.configuration.internal.BuildCacheServiceRegistration
 import org.gradle.configurationcache.extensions.serviceOf
 import org.gradle.configurationcache.extensions.uncheckedCast
 import org.gradle.configurationcache.flow.BuildFlowScope
+import org.gradle.configurationcache.initialization.ConfigurationCacheStartParameter
 import org.gradle.configurationcache.problems.DocumentationSection.NotYetImplementedSourceDependencies
+import org.gradle.configurationcache.serialization.ConcurrentReadIdentities
+import org.gradle.configurationcache.serialization.ConcurrentWriteIdentities
 import org.gradle.configurationcache.serialization.DefaultReadContext
 import org.gradle.configurationcache.serialization.DefaultWriteContext
 import org.gradle.configurationcache.serialization.IsolateOwner
+import org.gradle.configurationcache.serialization.ProjectProvider
 import org.gradle.configurationcache.serialization.ReadContext
 import org.gradle.configurationcache.serialization.WriteContext
 import org.gradle.configurationcache.serialization.codecs.Codecs
+import org.gradle.configurationcache.serialization.codecs.WorkGraphShards
 import org.gradle.configurationcache.serialization.logNotImplemented
 import org.gradle.configurationcache.serialization.readCollection
 import org.gradle.configurationcache.serialization.readEnum
@@ -78,7 +83,9 @@ import org.gradle.internal.enterprise.core.GradleEnterprisePluginAdapter
 import org.gradle.internal.enterprise.core.GradleEnterprisePluginManager
 import org.gradle.internal.execution.BuildOutputCleanupRegistry
 import org.gradle.internal.file.FileSystemDefaultExcludesProvider
+import org.gradle.internal.operations.BuildOperationExecutor
 import org.gradle.internal.operations.BuildOperationProgressEventEmitter
+import org.gradle.internal.operations.RunnableBuildOperation
 import org.gradle.internal.scopeids.id.BuildInvocationScopeId
 import org.gradle.plugin.management.internal.PluginRequests
 import org.gradle.util.Path
@@ -86,6 +93,7 @@ import org.gradle.vcs.internal.VcsMappingsStore
 import java.io.File
 import java.io.InputStream
 import java.io.OutputStream
+import java.util.concurrent.ConcurrentHashMap
 
 
 typealias BuildTreeWorkGraphBuilder = BuildTreeWorkGraph.Builder.(BuildState) -> Unit
@@ -134,6 +142,7 @@ interface ConfigurationCacheStateFile {
     // Replace the contents of this state file, by moving the given file to the location of this state file
     fun moveFrom(file: File)
     fun stateFileForIncludedBuild(build: BuildDefinition): ConfigurationCacheStateFile
+    fun stateFileForWorkShard(index: Int): ConfigurationCacheStateFile
 }
 
 
@@ -474,7 +483,7 @@ class ConfigurationCacheState(
             applyProjectStates(projects, gradle)
             readRequiredBuildServicesOf(gradle)
 
-            val workGraph = readWorkGraph(gradle)
+            val workGraph = readWorkGraph(build)
             readFlowScopeOf(gradle)
             readBuildOutputCleanupRegistrations(gradle)
             return BuildWithWork(build.state.identityPath, build, gradle.rootProject.name, projects, workGraph)
@@ -485,17 +494,70 @@ class ConfigurationCacheState(
 
     private
     suspend fun DefaultWriteContext.writeWorkGraphOf(gradle: GradleInternal, scheduledWork: ScheduledWork) {
+        val shards = if (gradle.serviceOf<ConfigurationCacheStartParameter>().parallelWorkGraph) {
+            ConcurrentWorkGraphShards(gradle, null)
+        } else {
+            null
+        }
         workNodeCodec(gradle).run {
-            writeWork(scheduledWork)
+            writeWork(scheduledWork, shards)
         }
     }
 
     private
-    suspend fun DefaultReadContext.readWorkGraph(gradle: GradleInternal) =
-        workNodeCodec(gradle).run {
-            readWork()
+    suspend fun DefaultReadContext.readWorkGraph(build: ConfigurationCacheBuild) =
+        workNodeCodec(build.gradle).run {
+            readWork(ConcurrentWorkGraphShards(build.gradle, build::getProject))
         }
 
+    /**
+     * Stores each shard of the work graph in a state file next to the state file of the build, using one build operation per shard.
+     *
+     * The shards are processed from the build operation thread pool while the current thread holds the project locks,
+     * so that tasks can be created and configured in their projects.
+     */
+    private
+    inner class ConcurrentWorkGraphShards(
+        private val gradle: GradleInternal,
+        private val projectProvider: ProjectProvider?
+    ) : WorkGraphShards {
+
+        override fun write(shardNames: List<String>, identities: ConcurrentWriteIdentities, writeShard: suspend WriteContext.(Int) -> Int) {
+            val io = gradle.serviceOf<ConfigurationCacheIO>()
+            gradle.serviceOf<BuildOperationExecutor>().runAllWithAccessToProjectState<RunnableBuildOperation> { queue ->
+                shardNames.forEachIndexed { index, shardName ->
+                    val shardStateFile = stateFile.stateFileForWorkShard(index)
+                    queue.add(storeWorkGraphShardOperation(shardName, shardStateFile.stateFile.file) {
+                        io.writeWorkShardTo(shardStateFile) {
+                            sharedIdentities = identities.forShard()
+                            writeShard(index)
+                        }
+                    })
+                }
+            }
+        }
+
+        override fun <T : Any> read(shardNames: List<String>, identities: ConcurrentReadIdentities, readShard: suspend ReadContext.(Int) -> List<T>): List<List<T>> {
+            val io = gradle.serviceOf<ConfigurationCacheIO>()
+            val results = ConcurrentHashMap<Int, List<T>>()
+            gradle.serviceOf<BuildOperationExecutor>().runAllWithAccessToProjectState<RunnableBuildOperation> { queue ->
+                shardNames.forEachIndexed { index, shardName ->
+                    val shardStateFile = stateFile.stateFileForWorkShard(index)
+                    queue.add(loadWorkGraphShardOperation(shardName, shardStateFile.stateFile.file) {
+                        val nodes = io.readWorkShardFrom(shardStateFile) {
+                            projectProvider?.let(::initProjectProvider)
+                            sharedIdentities = identities.forShard()
+                            readShard(index)
+                        }
+                        results[index] = nodes
+                        nodes.size
+                    })
+                }
+            }
+            return shardNames.indices.map { results.getValue(it) }
+        }
+    }
+
     private
     suspend fun WriteContext.writeFlowScopeOf(gradle: GradleInternal) {
         withIsolate(IsolateOwner.OwnerFlowScope(gradle), userTypesCodec) {
@@ -172,9 +172,6 @@ class ConfigurationCacheFingerprintWriter(
     private
     val reportedValueSources = newConcurrentHashSet<String>()
 
-    private
-    var closestChangingValue: ConfigurationCacheFingerprint.ChangingDependencyResolutionValue? = null
-
     init {
         buildScopedSink.initScripts(host.allInitScripts)
         buildScopedSink.write(
@@ -195,11 +192,8 @@ class ConfigurationCacheFingerprintWriter(
      * **MUST ALWAYS BE CALLED**
      */
     fun close() {
-        synchronized(this) {
-            closestChangingValue?.let {
-                buildScopedSink.write(it)
-            }
-        }
+        buildScopedSink.writeClosestChangingValue()
+        sinksForProject.values.forEach { it.writeClosestChangingValue() }
         CompositeStoppable.stoppable(buildScopedWriter, projectScopedWriter).stop()
     }
 
@@ -236,11 +230,8 @@ class ConfigurationCacheFingerprintWriter(
 
     private
     fun onChangingValue(changingValue: ConfigurationCacheFingerprint.ChangingDependencyResolutionValue) {
-        synchronized(this) {
-            if (closestChangingValue == null || closestChangingValue!!.expireAt > changingValue.expireAt) {
-                closestChangingValue = changingValue
-            }
-        }
+        // Attribute the value to the project being configured, if any, so that its expiry only invalidates that project
+        sink().onChangingValue(changingValue)
     }
 
     private
@@ -361,7 +352,7 @@ class ConfigurationCacheFingerprintWriter(
                 e.value
             }
         }
-        buildScopedSink.write(ConfigurationCacheFingerprint.SystemPropertiesPrefixedBy(prefix, filteredSnapshot))
+        sink().write(ConfigurationCacheFingerprint.SystemPropertiesPrefixedBy(prefix, filteredSnapshot))
     }
 
     override fun envVariablesPrefixedBy(prefix: String, snapshot: Map<String, String?>) {
@@ -373,7 +364,7 @@ class ConfigurationCacheFingerprintWriter(
 
     private
     fun addEnvVariablesPrefixedByToFingerprint(prefix: String, snapshot: Map<String, String?>) {
-        buildScopedSink.write(ConfigurationCacheFingerprint.EnvironmentVariablesPrefixedBy(prefix, snapshot))
+        sink().write(ConfigurationCacheFingerprint.EnvironmentVariablesPrefixedBy(prefix, snapshot))
     }
 
     override fun beforeValueObtained() {
@@ -798,6 +789,9 @@ class ConfigurationCacheFingerprintWriter(
         private
         val remoteScriptsUris = newConcurrentHashSet<URI>()
 
+        private
+        var closestChangingValue: ConfigurationCacheFingerprint.ChangingDependencyResolutionValue? = null
+
         fun captureFile(file: File) {
             if (!capturedFiles.add(file)) {
                 return
@@ -837,6 +831,22 @@ class ConfigurationCacheFingerprintWriter(
             }
         }
 
+        fun onChangingValue(changingValue: ConfigurationCacheFingerprint.ChangingDependencyResolutionValue) {
+            synchronized(this) {
+                if (closestChangingValue == null || closestChangingValue!!.expireAt > changingValue.expireAt) {
+                    closestChangingValue = changingValue
+                }
+            }
+        }
+
+        fun writeClosestChangingValue() {
+            synchronized(this) {
+                closestChangingValue?.let {
+                    write(it)
+                }
+            }
+        }
+
         abstract fun write(value: ConfigurationCacheFingerprint, trace: PropertyTrace? = null)
 
         fun inputFile(file: File) =
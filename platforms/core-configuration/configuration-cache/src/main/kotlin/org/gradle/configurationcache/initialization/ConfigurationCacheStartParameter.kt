@@ -62,6 +62,16 @@ class ConfigurationCacheStartParameter(
 
     val encryptionRequested: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.encryption", true)
 
+    /**
+     * Whether the tasks of each project are stored to, and loaded from, a separate state file, concurrently with the tasks of other projects.
+     */
+    val parallelWorkGraph: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.parallel-work-graph", false)
+
+    /**
+     * Whether the state files of a cache entry are compressed before being encrypted and written to disk.
+     */
+    val compressionRequested: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.compression", false)
+
     val keystoreDir: String? = options.getInternalString("org.gradle.configuration-cache.internal.key-store-dir", null)
 
     val encryptionAlgorithm: String = options.getInternalString("org.gradle.configuration-cache.internal.encryption-alg", SupportedEncryptionAlgorithm.AES_ECB_PADDING.transformation)
@@ -294,8 +294,10 @@ inline fun <T> ReadContext.decodePreservingIdentity(decode: ReadContext.(Int) ->
 internal
 inline fun <T : Any> ReadContext.decodePreservingSharedIdentity(decode: ReadContext.(Int) -> T): T =
     decodePreservingIdentity(sharedIdentities) { id ->
-        decode(id).also {
+        decode(id).let {
             sharedIdentities.putInstance(id, it)
+            // Work graph shards may have registered another instance for the same id, see ConcurrentReadIdentities
+            sharedIdentities.getInstance(id)!!.uncheckedCast()
         }
     }
 
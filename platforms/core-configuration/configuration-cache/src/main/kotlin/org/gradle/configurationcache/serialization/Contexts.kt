@@ -60,7 +60,8 @@ class DefaultWriteContext(
 
 ) : AbstractIsolateContext<WriteIsolate>(codec, problemsListener), WriteContext, Encoder by encoder, AutoCloseable {
 
-    override val sharedIdentities = WriteIdentities()
+    override var sharedIdentities = WriteIdentities()
+        internal set
 
     override val circularReferences = CircularReferences()
 
@@ -324,7 +325,8 @@ class DefaultReadContext(
 
 ) : AbstractIsolateContext<ReadIsolate>(codec, problemsListener), ReadContext, Decoder by decoder, AutoCloseable {
 
-    override val sharedIdentities = ReadIdentities()
+    override var sharedIdentities = ReadIdentities()
+        internal set
 
     private
     lateinit var projectProvider: ProjectProvider
@@ -18,16 +18,20 @@ package org.gradle.configurationcache.serialization
 
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet
 import java.util.IdentityHashMap
+import java.util.concurrent.ConcurrentHashMap
 
 
-class WriteIdentities {
+open class WriteIdentities {
 
     private
     val instanceIds = IdentityHashMap<Any, Int>()
 
-    fun getId(instance: Any) = instanceIds[instance]
+    val size: Int
+        get() = instanceIds.size
 
-    fun putInstance(instance: Any): Int {
+    open fun getId(instance: Any): Int? = instanceIds[instance]
+
+    open fun putInstance(instance: Any): Int {
         val id = instanceIds.size
         instanceIds[instance] = id
         return id
@@ -35,19 +39,104 @@ class WriteIdentities {
 }
 
 
-class ReadIdentities {
+open class ReadIdentities {
 
     private
     val instanceIds = HashMap<Int, Any>()
 
-    fun getInstance(id: Int) = instanceIds[id]
+    open fun getInstance(id: Int): Any? = instanceIds[id]
 
-    fun putInstance(id: Int, instance: Any) {
+    open fun putInstance(id: Int, instance: Any) {
         instanceIds[id] = instance
     }
 }
 
 
+/**
+ * Extends the shared identities of a context to the work graph shards written concurrently to contexts of their own.
+ *
+ * Every shard refers to an instance by the same id. A shard writes the state of an instance the first time it refers to it,
+ * unless the instance was already written by the parent context, so that each shard can be read independently of the others.
+ * The [parent] identities must not change while the shards are written. Once all shards have been written,
+ * [merge] adds the instances written by the shards to the parent, so the parent context can refer to them as well.
+ */
+class ConcurrentWriteIdentities(
+    private val parent: WriteIdentities
+) {
+    private
+    val instanceIds = IdentityHashMap<Any, Int>()
+
+    private
+    val firstId = parent.size
+
+    fun forShard(): WriteIdentities =
+        ShardWriteIdentities()
+
+    fun merge() {
+        instanceIds.entries.sortedBy { it.value }.forEach { (instance, id) ->
+            require(parent.putInstance(instance) == id)
+        }
+    }
+
+    private
+    fun idOf(instance: Any): Int = synchronized(instanceIds) {
+        instanceIds.getOrPut(instance) { firstId + instanceIds.size }
+    }
+
+    private
+    inner class ShardWriteIdentities : WriteIdentities() {
+
+        private
+        val writtenIds = IdentityHashMap<Any, Int>()
+
+        override fun getId(instance: Any): Int? =
+            parent.getId(instance) ?: writtenIds[instance]
+
+        override fun putInstance(instance: Any): Int =
+            idOf(instance).also {
+                writtenIds[instance] = it
+            }
+    }
+}
+
+
+/**
+ * Reads the identities written by [ConcurrentWriteIdentities].
+ *
+ * Each shard reads the state of every instance it refers to, but the instance that is registered first
+ * for an id is the one used by all shards, see [decodePreservingSharedIdentity].
+ */
+class ConcurrentReadIdentities(
+    private val parent: ReadIdentities
+) {
+    private
+    val instances = ConcurrentHashMap<Int, Any>()
+
+    fun forShard(): ReadIdentities =
+        ShardReadIdentities()
+
+    fun merge() {
+        instances.forEach { (id, instance) ->
+            parent.putInstance(id, instance)
+        }
+    }
+
+    private
+    inner class ShardReadIdentities : ReadIdentities() {
+
+        private
+        val readInstances = HashMap<Int, Any>()
+
+        override fun getInstance(id: Int): Any? =
+            parent.getInstance(id) ?: readInstances[id]
+
+        override fun putInstance(id: Int, instance: Any) {
+            readInstances[id] = instances.putIfAbsent(id, instance) ?: instance
+        }
+    }
+}
+
+
 class CircularReferences {
 
     private
@@ -75,7 +75,10 @@ class TaskNodeCodec(
 
     override suspend fun ReadContext.decode(): LocalTaskNode {
         val task = readTask()
-        val node = taskNodeFactory.getOrCreateNode(task) as LocalTaskNode
+        // Tasks of different projects can be loaded concurrently, but the task node factory is shared by the whole build
+        val node = synchronized(taskNodeFactory) {
+            taskNodeFactory.getOrCreateNode(task) as LocalTaskNode
+        }
         node.isolated()
         return node
     }
@@ -123,6 +126,7 @@ class TaskNodeCodec(
         val uniqueId = readLong()
         val incompatibleReason = readNullableString()
 
+        // Only the tasks of a single project are loaded by each shard, so tasks can be created concurrently, see WorkNodeCodec
         val task = createTask(projectPath, taskName, taskType, uniqueId, incompatibleReason)
 
         withTaskOf(taskType, task, userTypesCodec) {
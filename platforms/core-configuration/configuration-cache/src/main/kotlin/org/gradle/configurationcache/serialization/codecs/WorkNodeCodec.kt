@@ -21,6 +21,8 @@ import org.gradle.api.internal.GradleInternal
 import org.gradle.api.internal.artifacts.transform.DefaultTransformUpstreamDependenciesResolver
 import org.gradle.api.internal.tasks.NodeExecutionContext
 import org.gradle.configurationcache.serialization.Codec
+import org.gradle.configurationcache.serialization.ConcurrentReadIdentities
+import org.gradle.configurationcache.serialization.ConcurrentWriteIdentities
 import org.gradle.configurationcache.serialization.ReadContext
 import org.gradle.configurationcache.serialization.WriteContext
 import org.gradle.configurationcache.serialization.decodePreservingIdentity
@@ -28,6 +30,7 @@ import org.gradle.configurationcache.serialization.encodePreservingIdentityOf
 import org.gradle.configurationcache.serialization.ownerService
 import org.gradle.configurationcache.serialization.readCollection
 import org.gradle.configurationcache.serialization.readCollectionInto
+import org.gradle.configurationcache.serialization.readList
 import org.gradle.configurationcache.serialization.readNonNull
 import org.gradle.configurationcache.serialization.withGradleIsolate
 import org.gradle.configurationcache.serialization.writeCollection
@@ -50,23 +53,36 @@ class WorkNodeCodec(
     private val ordinalGroups: OrdinalGroupFactory
 ) {
 
-    suspend fun WriteContext.writeWork(work: ScheduledWork) {
+    suspend fun WriteContext.writeWork(work: ScheduledWork, shards: WorkGraphShards? = null) {
         // Share bean instances across all nodes (except tasks, which have their own isolate)
         withGradleIsolate(owner, internalTypesCodec) {
-            doWrite(work)
+            doWrite(work, shards)
         }
     }
 
-    suspend fun ReadContext.readWork(): ScheduledWork =
+    suspend fun ReadContext.readWork(shards: WorkGraphShards): ScheduledWork =
         withGradleIsolate(owner, internalTypesCodec) {
-            doRead()
+            doRead(shards)
         }
 
     private
-    suspend fun WriteContext.doWrite(work: ScheduledWork) {
+    suspend fun WriteContext.doWrite(work: ScheduledWork, shards: WorkGraphShards?) {
         val nodes = work.scheduledNodes
         val nodeCount = nodes.size
         writeSmallInt(nodeCount)
+        val isSharded = shards != null
+        writeBoolean(isSharded)
+        val shardIndices = HashMap<Node, Int>()
+        if (shards != null) {
+            val tasksByShard = tasksByProjectOf(nodes)
+            writeCollection(tasksByShard.keys) {
+                writeString(it)
+            }
+            tasksByShard.values.forEachIndexed { index, tasks ->
+                tasks.forEach { shardIndices[it] = index }
+            }
+            writeShards(shards, tasksByShard)
+        }
         val scheduledNodeIds = HashMap<Node, Int>(nodeCount)
         // Not all entry nodes are always scheduled.
         // In particular, it happens when the entry node is a task of the included plugin build that runs as part of building the plugin.
@@ -74,7 +90,18 @@ class WorkNodeCodec(
         // Not restoring them as entry points doesn't affect the resulting execution plan.
         val scheduledEntryNodeIds = mutableListOf<Int>()
         nodes.forEach { node ->
-            write(node)
+            if (isSharded) {
+                // Tasks are stored in the shard of their project, in scheduling order, so only the shard is recorded here
+                val shardIndex = shardIndices[node]
+                if (shardIndex != null) {
+                    writeSmallInt(shardIndex)
+                } else {
+                    writeSmallInt(-1)
+                    write(node)
+                }
+            } else {
+                write(node)
+            }
             val nodeId = scheduledNodeIds.size
             scheduledNodeIds[node] = nodeId
             if (node in work.entryNodes) {
@@ -96,12 +123,21 @@ class WorkNodeCodec(
     }
 
     private
-    suspend fun ReadContext.doRead(): ScheduledWork {
+    suspend fun ReadContext.doRead(shards: WorkGraphShards): ScheduledWork {
         val nodeCount = readSmallInt()
+        val isSharded = readBoolean()
+        val shardedTasks = if (isSharded) readShards(shards) else emptyList()
         val nodes = ArrayList<Node>(nodeCount)
         val nodesById = HashMap<Int, Node>(nodeCount)
         for (i in 0 until nodeCount) {
-            val node = readNode()
+            val node = if (!isSharded) {
+                readNode()
+            } else {
+                when (val shardIndex = readSmallInt()) {
+                    -1 -> readNode()
+                    else -> shardedTasks[shardIndex].next()
+                }
+            }
             nodesById[nodesById.size] = node
             if (node is LocalTaskNode) {
                 node.prepareNode.require()
@@ -121,6 +157,60 @@ class WorkNodeCodec(
         return ScheduledWork(nodes, entryNodes.build())
     }
 
+    /**
+     * Groups the tasks of this build by owning project, preserving the scheduling order of the tasks in each group.
+     *
+     * Each task has its own isolate and can only reference other tasks of the same project,
+     * but a task may still reference beans that are shared across the whole work graph, see [writeShards].
+     */
+    private
+    fun tasksByProjectOf(nodes: List<Node>): Map<String, List<LocalTaskNode>> {
+        val tasksByProject = LinkedHashMap<String, MutableList<LocalTaskNode>>()
+        nodes.forEach { node ->
+            if (node is LocalTaskNode) {
+                tasksByProject.getOrPut(node.task.project.path) { mutableListOf() }.add(node)
+            }
+        }
+        return tasksByProject
+    }
+
+    /**
+     * Writes each group of tasks to its own shard.
+     *
+     * Each shard is written by a context of its own, but beans that preserve their identity across the whole
+     * work graph, such as transform steps, value sources or build service providers, are identified through
+     * the shared identities of this context, so that they are decoded as the same instance by every shard
+     * and by the rest of the work graph.
+     */
+    private
+    fun WriteContext.writeShards(shards: WorkGraphShards, tasksByShard: Map<String, List<LocalTaskNode>>) {
+        val shardNames = tasksByShard.keys.toList()
+        val identities = ConcurrentWriteIdentities(sharedIdentities)
+        shards.write(shardNames, identities) { index ->
+            val tasks = tasksByShard.getValue(shardNames[index])
+            withGradleIsolate(owner, internalTypesCodec) {
+                writeCollection(tasks) {
+                    write(it)
+                }
+            }
+            tasks.size
+        }
+        identities.merge()
+    }
+
+    private
+    fun ReadContext.readShards(shards: WorkGraphShards): List<Iterator<Node>> {
+        val shardNames = readList { readString() }
+        val identities = ConcurrentReadIdentities(sharedIdentities)
+        return shards.read(shardNames, identities) {
+            withGradleIsolate(owner, internalTypesCodec) {
+                readList { readNode() }
+            }
+        }.also {
+            identities.merge()
+        }.map { it.iterator() }
+    }
+
     private
     suspend fun ReadContext.readNode(): Node {
         val node = readNonNull<Node>()
@@ -270,3 +360,23 @@ class WorkNodeCodec(
         }
     }
 }
+
+
+/**
+ * Stores groups of work nodes to, and loads them from, state files of their own, concurrently with each other.
+ */
+internal
+interface WorkGraphShards {
+    /**
+     * Writes each of the given shards, identified by their index, to its own state file, using the shared identities of [identities].
+     *
+     * [writeShard] returns the number of nodes written to the shard.
+     */
+    fun write(shardNames: List<String>, identities: ConcurrentWriteIdentities, writeShard: suspend WriteContext.(Int) -> Int)
+
+    /**
+     * Reads each of the given shards from its own state file, using the shared identities of [identities],
+     * returning the nodes of each shard in the order of [shardNames].
+     */
+    fun <T : Any> read(shardNames: List<String>, identities: ConcurrentReadIdentities, readShard: suspend ReadContext.(Int) -> List<T>): List<List<T>>
+}
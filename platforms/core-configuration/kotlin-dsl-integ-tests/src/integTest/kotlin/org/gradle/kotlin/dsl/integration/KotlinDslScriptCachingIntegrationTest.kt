@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.kotlin.dsl.integration
+
+import org.gradle.kotlin.dsl.fixtures.AbstractKotlinIntegrationTest
+import org.gradle.kotlin.dsl.fixtures.normalisedPath
+import org.junit.Test
+
+
+class KotlinDslScriptCachingIntegrationTest : AbstractKotlinIntegrationTest() {
+
+    @Test
+    fun `compiled project scripts and accessors are loaded from the build cache by a fresh Gradle user home`() {
+
+        val cacheDir = newDir("cache-dir")
+        withDefaultSettings().appendText(
+            """
+            rootProject.name = "test"
+            buildCache {
+                local {
+                    directory = file("${cacheDir.normalisedPath}")
+                }
+            }
+            """
+        )
+        withBuildScript(
+            """
+            plugins { `java-library` }
+
+            java.sourceCompatibility = JavaVersion.VERSION_1_8
+            """
+        )
+
+        executer.withGradleUserHomeDir(newDir("first-user-home"))
+        build("help", "--build-cache", "--info").apply {
+            assertOutputContains("Stored cache entry for Kotlin DSL script compilation")
+            assertOutputContains("Stored cache entry for Kotlin DSL accessors for root project 'test'")
+        }
+
+        executer.withGradleUserHomeDir(newDir("second-user-home"))
+        build("help", "--build-cache", "--info").apply {
+            assertOutputContains("Loaded cache entry for Kotlin DSL script compilation")
+            assertOutputContains("Loaded cache entry for Kotlin DSL accessors for root project 'test'")
+        }
+    }
+}
@@ -82,6 +82,9 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
     private val asyncIO: AsyncIOScopeFactory
 ) {
 
+    private
+    val emittedAccessors = EmittedAccessors()
+
     fun projectAccessorsClassPath(scriptTarget: ExtensionAware, classPath: ClassPath): AccessorsClassPath =
         scriptTarget.getOrCreateProperty("gradleKotlinDsl.accessorsClassPath") {
             buildAccessorsClassPathFor(scriptTarget, classPath)
@@ -102,7 +105,8 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
                     fileCollectionFactory,
                     inputFingerprinter,
                     workspaceProvider,
-                    asyncIO
+                    asyncIO,
+                    emittedAccessors
                 )
                 executionEngine.createRequest(work)
                     .execute()
@@ -129,7 +133,8 @@ class GenerateProjectAccessors(
     private val fileCollectionFactory: FileCollectionFactory,
     private val inputFingerprinter: InputFingerprinter,
     private val workspaceProvider: KotlinDslWorkspaceProvider,
-    private val asyncIO: AsyncIOScopeFactory
+    private val asyncIO: AsyncIOScopeFactory,
+    private val emittedAccessors: EmittedAccessors
 ) : ImmutableUnitOfWork {
 
     companion object {
@@ -146,7 +151,8 @@ class GenerateProjectAccessors(
                 scriptTargetSchema,
                 classPath,
                 srcDir = getSourcesOutputDir(workspace),
-                binDir = getClassesOutputDir(workspace)
+                binDir = getClassesOutputDir(workspace),
+                emittedAccessors = emittedAccessors
             )
         }
         return object : UnitOfWork.WorkOutput {
@@ -223,7 +229,8 @@ fun IO.buildAccessorsFor(
     srcDir: File,
     binDir: File?,
     packageName: String = kotlinDslPackageName,
-    format: AccessorFormat = AccessorFormats.default
+    format: AccessorFormat = AccessorFormats.default,
+    emittedAccessors: EmittedAccessors? = null
 ) {
     val availableSchema = availableProjectSchemaFor(projectSchema, classPath)
     emitAccessorsFor(
@@ -231,7 +238,8 @@ fun IO.buildAccessorsFor(
         srcDir,
         binDir,
         OutputPackage(packageName),
-        format
+        format,
+        emittedAccessors
     )
 }
 
@@ -29,6 +29,7 @@ import org.gradle.kotlin.dsl.support.bytecode.endKotlinClass
 import org.gradle.kotlin.dsl.support.bytecode.moduleFileFor
 import org.gradle.kotlin.dsl.support.bytecode.moduleMetadataBytesFor
 import java.io.File
+import java.util.concurrent.ConcurrentHashMap
 
 
 internal
@@ -37,7 +38,8 @@ fun IO.emitAccessorsFor(
     srcDir: File,
     binDir: File?,
     outputPackage: OutputPackage,
-    format: AccessorFormat
+    format: AccessorFormat,
+    emittedAccessors: EmittedAccessors? = null
 ): List<InternalName> {
 
     makeAccessorOutputDirs(srcDir, binDir, outputPackage.path)
@@ -55,7 +57,8 @@ fun IO.emitAccessorsFor(
                 outputPackage,
                 format,
                 moduleName,
-                useLowPriorityOverloadResolution
+                useLowPriorityOverloadResolution,
+                emittedAccessors
             )
         }.toList()
 
@@ -89,6 +92,43 @@ data class OutputPackage(val name: String) {
 }
 
 
+/**
+ * The accessor classes emitted for the projects of a build.
+ *
+ * Projects that apply the same plugins share most of their schema,
+ * so the class of each accessor they have in common is generated only once per build.
+ */
+class EmittedAccessors {
+
+    private
+    val classes = ConcurrentHashMap<EmittedAccessorKey, EmittedAccessorClass>()
+
+    internal
+    fun classFor(key: EmittedAccessorKey, emit: () -> EmittedAccessorClass): EmittedAccessorClass =
+        classes.computeIfAbsent(key) { emit() }
+}
+
+
+internal
+data class EmittedAccessorKey(
+    val accessor: Accessor,
+    val outputPackage: OutputPackage,
+    val format: AccessorFormat,
+    val moduleName: String,
+    val useLowPriorityOverloadResolution: Boolean,
+    val emitsBytecode: Boolean
+)
+
+
+internal
+class EmittedAccessorClass(
+    val className: InternalName,
+    val sourceCode: List<String>,
+    val imports: List<String>,
+    val classBytes: ByteArray?
+)
+
+
 private
 fun IO.emitClassFor(
     accessor: Accessor,
@@ -97,9 +137,43 @@ fun IO.emitClassFor(
     outputPackage: OutputPackage,
     format: AccessorFormat,
     moduleName: String,
-    useLowPriorityOverloadResolution: Boolean
+    useLowPriorityOverloadResolution: Boolean,
+    emittedAccessors: EmittedAccessors?
 ): InternalName {
 
+    val emit = {
+        emittedClassFor(accessor, binDir != null, outputPackage, format, moduleName, useLowPriorityOverloadResolution)
+    }
+    val emitted = emittedAccessors?.classFor(
+        EmittedAccessorKey(accessor, outputPackage, format, moduleName, useLowPriorityOverloadResolution, binDir != null),
+        emit
+    ) ?: emit()
+
+    if (binDir != null && emitted.classBytes != null) {
+        writeFile(binDir.resolve("${emitted.className}.class"), emitted.classBytes)
+    }
+
+    writeAccessorsTo(
+        sourceFileFor(emitted.className, srcDir),
+        emitted.sourceCode,
+        emitted.imports,
+        outputPackage.name
+    )
+
+    return emitted.className
+}
+
+
+private
+fun emittedClassFor(
+    accessor: Accessor,
+    emitBytecode: Boolean,
+    outputPackage: OutputPackage,
+    format: AccessorFormat,
+    moduleName: String,
+    useLowPriorityOverloadResolution: Boolean
+): EmittedAccessorClass {
+
     val (simpleClassName, fragments) = fragmentsFor(accessor)
     val className = InternalName("${outputPackage.path}/$simpleClassName")
     val sourceCode = mutableListOf<String>()
@@ -108,29 +182,23 @@ fun IO.emitClassFor(
         sourceCode.add(format(source))
     }
 
-    if (binDir != null) {
-        writeAccessorsBytecodeTo(
-            binDir,
-            className,
-            fragments,
-            ::collectSourceFragment,
-            moduleName,
-            useLowPriorityOverloadResolution
-        )
-    } else {
-        for ((source, _, _, _) in fragments) {
-            collectSourceFragment(source)
+    val classBytes =
+        if (emitBytecode) {
+            accessorsBytecodeFor(
+                className,
+                fragments,
+                ::collectSourceFragment,
+                moduleName,
+                useLowPriorityOverloadResolution
+            )
+        } else {
+            for ((source, _, _, _) in fragments) {
+                collectSourceFragment(source)
+            }
+            null
         }
-    }
-
-    writeAccessorsTo(
-        sourceFileFor(className, srcDir),
-        sourceCode,
-        importsRequiredBy(accessor),
-        outputPackage.name
-    )
 
-    return className
+    return EmittedAccessorClass(className, sourceCode, importsRequiredBy(accessor), classBytes)
 }
 
 
@@ -140,14 +208,13 @@ fun sourceFileFor(className: InternalName, srcDir: File) =
 
 
 private
-fun IO.writeAccessorsBytecodeTo(
-    binDir: File,
+fun accessorsBytecodeFor(
     className: InternalName,
     fragments: Sequence<AccessorFragment>,
     collectSourceFragment: (String) -> Unit,
     moduleName: String,
     useLowPriorityOverloadResolution: Boolean
-) {
+): ByteArray {
 
     val metadataWriter = beginFileFacadeClassHeader()
     val classWriter = beginPublicClass(className)
@@ -159,9 +226,7 @@ fun IO.writeAccessorsBytecodeTo(
     }
 
     val metadata = metadataWriter.closeHeader(moduleName)
-    val classBytes = classWriter.endKotlinClass(metadata)
-    val classFile = binDir.resolve("$className.class")
-    writeFile(classFile, classBytes)
+    return classWriter.endKotlinClass(metadata)
 }
 
 
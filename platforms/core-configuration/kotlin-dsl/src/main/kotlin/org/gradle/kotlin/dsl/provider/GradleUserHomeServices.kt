@@ -16,6 +16,7 @@
 package org.gradle.kotlin.dsl.provider
 
 import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory
+import org.gradle.internal.event.ListenerManager
 
 
 internal
@@ -23,6 +24,9 @@ object GradleUserHomeServices {
 
     @Suppress("unused")
     fun createKotlinScriptClassloadingCache(
-        cacheFactory: CrossBuildInMemoryCacheFactory
-    ) = KotlinScriptClassloadingCache(cacheFactory)
+        cacheFactory: CrossBuildInMemoryCacheFactory,
+        listenerManager: ListenerManager
+    ) = KotlinScriptClassloadingCache(cacheFactory).also {
+        listenerManager.addListener(it)
+    }
 }
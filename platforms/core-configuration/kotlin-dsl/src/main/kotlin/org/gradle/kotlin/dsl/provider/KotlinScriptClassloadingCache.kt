@@ -17,25 +17,64 @@ package org.gradle.kotlin.dsl.provider
 
 import org.gradle.cache.internal.CrossBuildInMemoryCache
 import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory
+import org.gradle.internal.session.BuildSessionLifecycleListener
 import org.gradle.kotlin.dsl.execution.CompiledScript
 
 import org.gradle.kotlin.dsl.execution.ProgramId
+import org.gradle.kotlin.dsl.support.loggerFor
 
+import java.util.concurrent.atomic.AtomicLong
 import javax.inject.Inject
 
 
+/**
+ * Keeps the loaded classes of compiled scripts across the builds run by a daemon.
+ *
+ * Scripts used by the current or the previous build session are strongly retained,
+ * all others are only softly reachable and released by the JVM when the heap runs low.
+ * At the end of each build session the number of loaded and reused script classes is reported.
+ */
 internal
 class KotlinScriptClassloadingCache @Inject constructor(
     cacheFactory: CrossBuildInMemoryCacheFactory
-) {
+) : BuildSessionLifecycleListener {
 
     private
     val cache: CrossBuildInMemoryCache<ProgramId, CompiledScript> = cacheFactory.newCache()
 
+    private
+    val loaded = AtomicLong()
+
+    private
+    val reused = AtomicLong()
+
     fun get(key: ProgramId): CompiledScript? =
-        cache.getIfPresent(key)?.also { it.onReuse() }
+        cache.getIfPresent(key)?.also {
+            reused.incrementAndGet()
+            it.onReuse()
+        }
 
     fun put(key: ProgramId, loadedScriptClass: CompiledScript) {
+        loaded.incrementAndGet()
         cache.put(key, loadedScriptClass)
     }
+
+    override fun beforeComplete() {
+        val statistics = collectStatistics()
+        if (statistics.loaded > 0 || statistics.reused > 0) {
+            cacheLogger.info("Kotlin DSL scripts: {} script classes loaded, {} script classes reused from the daemon cache.", statistics.loaded, statistics.reused)
+        }
+    }
+
+    /**
+     * Returns the number of script classes loaded and reused since the statistics were last collected.
+     */
+    fun collectStatistics() =
+        Statistics(loaded.getAndSet(0), reused.getAndSet(0))
+
+    data class Statistics(val loaded: Long, val reused: Long)
 }
+
+
+private
+val cacheLogger = loggerFor<KotlinScriptClassloadingCache>()
@@ -129,6 +129,49 @@ class ProjectAccessorsClassPathTest : AbstractDslTest() {
         testAccessorsBuiltBy(::buildAccessorsFromSourceFor)
     }
 
+    @Test
+    fun `#buildAccessorsFor (shared emitted accessors)`() {
+
+        // given:
+        val sharedEntry = entry<Project, SourceSetContainer>("sourceSets")
+        val firstSchema = TypedProjectSchema(
+            extensions = listOf(sharedEntry),
+            conventions = listOf(),
+            tasks = listOf(),
+            containerElements = listOf(),
+            configurations = listOf()
+        )
+        val secondSchema = firstSchema.copy(
+            tasks = listOf(entry<TaskContainer, Delete>("clean"))
+        )
+        val emittedAccessors = EmittedAccessors()
+
+        // when:
+        val firstBinDir = newFolder("first-bin")
+        val secondBinDir = newFolder("second-bin")
+        val uncachedBinDir = newFolder("uncached-bin")
+        withSynchronousIO {
+            buildAccessorsFor(firstSchema, testRuntimeClassPath, newFolder("first-src"), firstBinDir, emittedAccessors = emittedAccessors)
+            buildAccessorsFor(secondSchema, testRuntimeClassPath, newFolder("second-src"), secondBinDir, emittedAccessors = emittedAccessors)
+            buildAccessorsFor(secondSchema, testRuntimeClassPath, newFolder("uncached-src"), uncachedBinDir)
+        }
+
+        // then:
+        assertEquals(
+            classFilesIn(uncachedBinDir),
+            classFilesIn(secondBinDir)
+        )
+        classFilesIn(firstBinDir).forEach { (path, bytes) ->
+            assertEquals(bytes, secondBinDir.resolve(path).readBytes().toList())
+        }
+    }
+
+    private
+    fun classFilesIn(binDir: File): Map<String, List<Byte>> =
+        binDir.walkTopDown()
+            .filter { it.isFile && it.extension == "class" }
+            .associate { it.relativeTo(binDir).path to it.readBytes().toList() }
+
     @Test
     fun `#buildAccessorsFor (deprecated configurations)`() {
         val schema =
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.kotlin.dsl.provider
+
+import com.nhaarman.mockito_kotlin.doReturn
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.times
+import com.nhaarman.mockito_kotlin.verify
+
+import org.gradle.cache.internal.CrossBuildInMemoryCache
+import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory
+import org.gradle.internal.hash.TestHashCodes
+import org.gradle.kotlin.dsl.execution.CompiledScript
+import org.gradle.kotlin.dsl.execution.ProgramId
+
+import org.hamcrest.CoreMatchers.equalTo
+import org.hamcrest.MatcherAssert.assertThat
+
+import org.junit.Test
+
+
+class KotlinScriptClassloadingCacheTest {
+
+    private
+    val loadedScript = ProgramId("loaded", TestHashCodes.hashCodeFrom(1), mock())
+
+    private
+    val missingScript = ProgramId("missing", TestHashCodes.hashCodeFrom(2), mock())
+
+    private
+    val compiledScript = mock<CompiledScript>()
+
+    private
+    val cache = mock<CrossBuildInMemoryCache<ProgramId, CompiledScript>> {
+        on { getIfPresent(loadedScript) } doReturn compiledScript
+    }
+
+    private
+    val subject = KotlinScriptClassloadingCache(
+        mock<CrossBuildInMemoryCacheFactory> {
+            on { newCache<ProgramId, CompiledScript>() } doReturn cache
+        }
+    )
+
+    @Test
+    fun `counts loaded and reused script classes`() {
+
+        // when:
+        subject.put(loadedScript, compiledScript)
+        subject.get(missingScript)
+        subject.get(loadedScript)
+        subject.get(loadedScript)
+
+        // then:
+        assertThat(subject.collectStatistics(), equalTo(KotlinScriptClassloadingCache.Statistics(loaded = 1, reused = 2)))
+        verify(cache).put(loadedScript, compiledScript)
+        verify(compiledScript, times(2)).onReuse()
+    }
+
+    @Test
+    fun `collecting statistics resets the counts`() {
+
+        // given:
+        subject.put(loadedScript, compiledScript)
+        subject.get(loadedScript)
+        subject.collectStatistics()
+
+        // when:
+        subject.get(loadedScript)
+
+        // then:
+        assertThat(subject.collectStatistics(), equalTo(KotlinScriptClassloadingCache.Statistics(loaded = 0, reused = 1)))
+        assertThat(subject.collectStatistics(), equalTo(KotlinScriptClassloadingCache.Statistics(loaded = 0, reused = 0)))
+    }
+}
@@ -18,6 +18,7 @@
 
 import com.google.common.collect.Interner;
 import com.google.common.collect.Interners;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import org.apache.commons.io.FileUtils;
@@ -465,7 +466,8 @@ FileSystemAccess createFileSystemAccess(
             stat,
             virtualFileSystem,
             locations -> locations.forEach(System.out::println),
-            statisticsCollector
+            statisticsCollector,
+            MoreExecutors.directExecutor()
         );
     }
 }
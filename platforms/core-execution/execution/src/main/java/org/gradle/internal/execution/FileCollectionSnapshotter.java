@@ -32,8 +32,28 @@ interface Result {
         boolean containsArchiveTrees();
     }
 
+    /**
+     * The resolved roots of a file collection, which have not been snapshotted yet.
+     */
+    interface Roots {
+        /**
+         * Whether any of the roots is an archive tree backed by a file.
+         */
+        boolean containsArchiveTrees();
+
+        /**
+         * Snapshot the roots. Unlike resolving the roots, this can happen on any thread.
+         */
+        FileSystemSnapshot snapshot();
+    }
+
     /**
      * Snapshot the roots of a file collection.
      */
     Result snapshot(FileCollection fileCollection);
+
+    /**
+     * Resolve the roots of a file collection without snapshotting them.
+     */
+    Roots resolveRoots(FileCollection fileCollection);
 }
@@ -30,25 +30,48 @@
 import org.gradle.internal.fingerprint.CurrentFileCollectionFingerprint;
 import org.gradle.internal.fingerprint.FileCollectionFingerprint;
 import org.gradle.internal.properties.InputBehavior;
+import org.gradle.internal.snapshot.FileSystemSnapshot;
 import org.gradle.internal.snapshot.ValueSnapshot;
 import org.gradle.internal.snapshot.ValueSnapshotter;
+import org.gradle.internal.time.Time;
+import org.gradle.internal.time.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 public class DefaultInputFingerprinter implements InputFingerprinter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultInputFingerprinter.class);
 
     private final FileCollectionSnapshotter snapshotter;
     private final FileCollectionFingerprinterRegistry fingerprinterRegistry;
     private final ValueSnapshotter valueSnapshotter;
+    private final InputFingerprintingExecutor fingerprintingExecutor;
 
     public DefaultInputFingerprinter(
         FileCollectionSnapshotter snapshotter,
         FileCollectionFingerprinterRegistry fingerprinterRegistry,
         ValueSnapshotter valueSnapshotter
+    ) {
+        this(snapshotter, fingerprinterRegistry, valueSnapshotter, InputFingerprintingExecutor.serial());
+    }
+
+    public DefaultInputFingerprinter(
+        FileCollectionSnapshotter snapshotter,
+        FileCollectionFingerprinterRegistry fingerprinterRegistry,
+        ValueSnapshotter valueSnapshotter,
+        InputFingerprintingExecutor fingerprintingExecutor
     ) {
         this.snapshotter = snapshotter;
         this.fingerprinterRegistry = fingerprinterRegistry;
         this.valueSnapshotter = valueSnapshotter;
+        this.fingerprintingExecutor = fingerprintingExecutor;
     }
 
     @Override
@@ -59,7 +82,7 @@ public Result fingerprintInputProperties(
         ImmutableSortedMap<String, CurrentFileCollectionFingerprint> knownCurrentFingerprints,
         Consumer<InputVisitor> inputs
     ) {
-        InputCollectingVisitor visitor = new InputCollectingVisitor(previousValueSnapshots, previousFingerprints, snapshotter, fingerprinterRegistry, valueSnapshotter, knownCurrentValueSnapshots, knownCurrentFingerprints);
+        InputCollectingVisitor visitor = new InputCollectingVisitor(previousValueSnapshots, previousFingerprints, snapshotter, fingerprinterRegistry, valueSnapshotter, knownCurrentValueSnapshots, knownCurrentFingerprints, fingerprintingExecutor.getExecutor());
         inputs.accept(visitor);
         return visitor.complete();
     }
@@ -72,7 +95,9 @@ private static class InputCollectingVisitor implements InputVisitor {
         private final ValueSnapshotter valueSnapshotter;
         private final ImmutableSortedMap<String, ValueSnapshot> knownCurrentValueSnapshots;
         private final ImmutableSortedMap<String, CurrentFileCollectionFingerprint> knownCurrentFingerprints;
+        private final Executor fingerprintingExecutor;
 
+        private final List<PendingFingerprint> pendingFingerprints = new ArrayList<>();
         private final ImmutableSortedMap.Builder<String, ValueSnapshot> valueSnapshotsBuilder = ImmutableSortedMap.naturalOrder();
         private final ImmutableSortedMap.Builder<String, CurrentFileCollectionFingerprint> fingerprintsBuilder = ImmutableSortedMap.naturalOrder();
         private final ImmutableSet.Builder<String> propertiesRequiringIsEmptyCheck = ImmutableSet.builder();
@@ -84,7 +109,8 @@ public InputCollectingVisitor(
             FileCollectionFingerprinterRegistry fingerprinterRegistry,
             ValueSnapshotter valueSnapshotter,
             ImmutableSortedMap<String, ValueSnapshot> knownCurrentValueSnapshots,
-            ImmutableSortedMap<String, CurrentFileCollectionFingerprint> knownCurrentFingerprints
+            ImmutableSortedMap<String, CurrentFileCollectionFingerprint> knownCurrentFingerprints,
+            @Nullable Executor fingerprintingExecutor
         ) {
             this.previousValueSnapshots = previousValueSnapshots;
             this.previousFingerprints = previousFingerprints;
@@ -93,6 +119,7 @@ public InputCollectingVisitor(
             this.valueSnapshotter = valueSnapshotter;
             this.knownCurrentValueSnapshots = knownCurrentValueSnapshots;
             this.knownCurrentFingerprints = knownCurrentFingerprints;
+            this.fingerprintingExecutor = fingerprintingExecutor;
         }
 
         @Override
@@ -130,18 +157,55 @@ public void visitInputFileProperty(String propertyName, InputBehavior behavior,
                 value.getLineEndingNormalization());
             FileCollectionFingerprinter fingerprinter = fingerprinterRegistry.getFingerprinter(normalizationSpec);
             try {
-                FileCollectionSnapshotter.Result result = snapshotter.snapshot(value.getFiles());
-                CurrentFileCollectionFingerprint fingerprint = fingerprinter.fingerprint(result.getSnapshot(), previousFingerprint);
-                fingerprintsBuilder.put(propertyName, fingerprint);
-                if (result.containsArchiveTrees()) {
+                // The file collection is always resolved on the current thread, as resolving it may require locks held by this thread
+                FileCollectionSnapshotter.Roots roots = snapshotter.resolveRoots(value.getFiles());
+                if (roots.containsArchiveTrees()) {
                     propertiesRequiringIsEmptyCheck.add(propertyName);
                 }
+                if (fingerprintingExecutor == null) {
+                    fingerprintsBuilder.put(propertyName, snapshotAndFingerprint(propertyName, fingerprinter, roots, previousFingerprint));
+                } else {
+                    pendingFingerprints.add(new PendingFingerprint(propertyName, CompletableFuture.supplyAsync(
+                        () -> snapshotAndFingerprint(propertyName, fingerprinter, roots, previousFingerprint),
+                        fingerprintingExecutor
+                    )));
+                }
             } catch (Exception e) {
                 throw new InputFileFingerprintingException(propertyName, e);
             }
         }
 
+        private static CurrentFileCollectionFingerprint snapshotAndFingerprint(
+            String propertyName,
+            FileCollectionFingerprinter fingerprinter,
+            FileCollectionSnapshotter.Roots roots,
+            @Nullable FileCollectionFingerprint previousFingerprint
+        ) {
+            Timer timer = LOGGER.isDebugEnabled() ? Time.startTimer() : null;
+            FileSystemSnapshot snapshot = roots.snapshot();
+            long snapshottingMillis = timer != null ? timer.getElapsedMillis() : 0;
+            CurrentFileCollectionFingerprint fingerprint = fingerprinter.fingerprint(snapshot, previousFingerprint);
+            if (timer != null) {
+                LOGGER.debug("Input file property '{}' snapshotted in {} ms and fingerprinted in {} ms.", propertyName, snapshottingMillis, timer.getElapsedMillis() - snapshottingMillis);
+            }
+            return fingerprint;
+        }
+
         public Result complete() {
+            // Wait for all properties before reporting the first failure in visiting order, so that the reported failure is deterministic
+            InputFileFingerprintingException failure = null;
+            for (PendingFingerprint pendingFingerprint : pendingFingerprints) {
+                try {
+                    fingerprintsBuilder.put(pendingFingerprint.propertyName, pendingFingerprint.fingerprint.join());
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = new InputFileFingerprintingException(pendingFingerprint.propertyName, e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
             return new InputFingerprints(
                 knownCurrentValueSnapshots,
                 valueSnapshotsBuilder.build(),
@@ -151,6 +215,16 @@ public Result complete() {
         }
     }
 
+    private static class PendingFingerprint {
+        private final String propertyName;
+        private final CompletableFuture<CurrentFileCollectionFingerprint> fingerprint;
+
+        public PendingFingerprint(String propertyName, CompletableFuture<CurrentFileCollectionFingerprint> fingerprint) {
+            this.propertyName = propertyName;
+            this.fingerprint = fingerprint;
+        }
+    }
+
     @VisibleForTesting
     public static class InputFingerprints implements InputFingerprinter.Result {
         private final ImmutableSortedMap<String, ValueSnapshot> knownCurrentValueSnapshots;
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.execution.impl;
+
+import org.gradle.internal.concurrent.ManagedExecutor;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+
+/**
+ * The bounded pool on which {@link DefaultInputFingerprinter} fingerprints the input file properties of a unit of work concurrently.
+ *
+ * When parallel fingerprinting is disabled, there is no pool and properties are fingerprinted on the thread executing the work.
+ */
+@ServiceScope(Scope.BuildTree.class)
+public class InputFingerprintingExecutor implements Stoppable {
+    private static final InputFingerprintingExecutor SERIAL = new InputFingerprintingExecutor(null);
+
+    private final ManagedExecutor executor;
+
+    private InputFingerprintingExecutor(@Nullable ManagedExecutor executor) {
+        this.executor = executor;
+    }
+
+    public static InputFingerprintingExecutor serial() {
+        return SERIAL;
+    }
+
+    public static InputFingerprintingExecutor parallel(ManagedExecutor executor) {
+        return new InputFingerprintingExecutor(executor);
+    }
+
+    /**
+     * Returns the pool to fingerprint on, or {@code null} when properties should be fingerprinted on the current thread.
+     */
+    @Nullable
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void stop() {
+        if (executor != null) {
+            executor.stop();
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.gradle.internal.execution.impl
 
 import com.google.common.collect.ImmutableSortedMap
 import org.gradle.api.file.FileCollection
+import org.gradle.internal.concurrent.DefaultExecutorFactory
 import org.gradle.internal.execution.FileCollectionFingerprinter
 import org.gradle.internal.execution.FileCollectionFingerprinterRegistry
 import org.gradle.internal.execution.FileCollectionSnapshotter
@@ -53,7 +54,7 @@ class DefaultInputFingerprinterTest extends Specification {
     def inputSnapshot = Mock(ValueSnapshot)
     def fileInput = Mock(FileCollection)
     def fileInputSnapshot = Mock(FileSystemSnapshot)
-    def fileInputSnapshotResult = Mock(FileCollectionSnapshotter.Result)
+    def fileInputRoots = Mock(FileCollectionSnapshotter.Roots)
     def fileInputFingerprint = Mock(CurrentFileCollectionFingerprint)
     def normalizer = Mock(FileNormalizer)
 
@@ -69,9 +70,9 @@ class DefaultInputFingerprinterTest extends Specification {
 
         then:
         1 * valueSnapshotter.snapshot(input) >> inputSnapshot
-        1 * snapshotter.snapshot(fileInput) >> fileInputSnapshotResult
-        _ * fileInputSnapshotResult.containsArchiveTrees() >> false
-        1 * fileInputSnapshotResult.snapshot >> fileInputSnapshot
+        1 * snapshotter.resolveRoots(fileInput) >> fileInputRoots
+        _ * fileInputRoots.containsArchiveTrees() >> false
+        1 * fileInputRoots.snapshot() >> fileInputSnapshot
         1 * fingerprinter.fingerprint(fileInputSnapshot, null) >> fileInputFingerprint
         0 * _
 
@@ -82,7 +83,7 @@ class DefaultInputFingerprinterTest extends Specification {
 
     def "marks archive trees as properties requiring empty check"() {
         def archiveTreeInput = Mock(FileCollection)
-        def archiveTreeInputSnapshotResult = Mock(FileCollectionSnapshotter.Result)
+        def archiveTreeInputRoots = Mock(FileCollectionSnapshotter.Roots)
         def archiveTreeInputSnapshot = Mock(FileSystemSnapshot)
         def archiveTreeInputFingerprint = Mock(CurrentFileCollectionFingerprint)
 
@@ -99,17 +100,17 @@ class DefaultInputFingerprinterTest extends Specification {
         }
 
         then:
-        1 * snapshotter.snapshot(fileInput) >> fileInputSnapshotResult
-        _ * fileInputSnapshotResult.fileTreeOnly >> false
-        _ * fileInputSnapshotResult.containsArchiveTrees() >> false
-        1 * fileInputSnapshotResult.snapshot >> fileInputSnapshot
+        1 * snapshotter.resolveRoots(fileInput) >> fileInputRoots
+        _ * fileInputRoots.fileTreeOnly >> false
+        _ * fileInputRoots.containsArchiveTrees() >> false
+        1 * fileInputRoots.snapshot() >> fileInputSnapshot
         1 * fingerprinter.fingerprint(fileInputSnapshot, null) >> fileInputFingerprint
 
         then:
-        1 * snapshotter.snapshot(archiveTreeInput) >> archiveTreeInputSnapshotResult
-        _ * archiveTreeInputSnapshotResult.fileTreeOnly >> false
-        _ * archiveTreeInputSnapshotResult.containsArchiveTrees() >> true
-        1 * archiveTreeInputSnapshotResult.snapshot >> archiveTreeInputSnapshot
+        1 * snapshotter.resolveRoots(archiveTreeInput) >> archiveTreeInputRoots
+        _ * archiveTreeInputRoots.fileTreeOnly >> false
+        _ * archiveTreeInputRoots.containsArchiveTrees() >> true
+        1 * archiveTreeInputRoots.snapshot() >> archiveTreeInputSnapshot
         1 * fingerprinter.fingerprint(archiveTreeInputSnapshot, null) >> archiveTreeInputFingerprint
 
         0 * _
@@ -193,7 +194,7 @@ class DefaultInputFingerprinterTest extends Specification {
         }
 
         then:
-        1 * snapshotter.snapshot(fileInput) >> { throw failure }
+        1 * snapshotter.resolveRoots(fileInput) >> { throw failure }
         0 * _
 
         then:
@@ -203,6 +204,96 @@ class DefaultInputFingerprinterTest extends Specification {
         ex.cause == failure
     }
 
+    def "snapshots and fingerprints file properties on fingerprinting executor"() {
+        def otherInput = Mock(FileCollection)
+        def otherInputRoots = Mock(FileCollectionSnapshotter.Roots)
+        def otherInputSnapshot = Mock(FileSystemSnapshot)
+        def otherInputFingerprint = Mock(CurrentFileCollectionFingerprint)
+        def executor = InputFingerprintingExecutor.parallel(new DefaultExecutorFactory().create("test", 2))
+        inputFingerprinter = new DefaultInputFingerprinter(snapshotter, fingerprinterRegistry, valueSnapshotter, executor)
+        def callingThread = Thread.currentThread()
+
+        when:
+        def result = fingerprintInputProperties { visitor ->
+            visitor.visitInputFileProperty(
+                "file",
+                NON_INCREMENTAL,
+                new InputFileValueSupplier(fileInput, normalizer, DirectorySensitivity.DEFAULT, LineEndingSensitivity.DEFAULT, { fileInput }))
+            visitor.visitInputFileProperty(
+                "other",
+                NON_INCREMENTAL,
+                new InputFileValueSupplier(otherInput, normalizer, DirectorySensitivity.DEFAULT, LineEndingSensitivity.DEFAULT, { otherInput }))
+        }
+
+        then:
+        1 * snapshotter.resolveRoots(fileInput) >> fileInputRoots
+        _ * fileInputRoots.containsArchiveTrees() >> false
+        1 * fileInputRoots.snapshot() >> {
+            assert Thread.currentThread() != callingThread
+            fileInputSnapshot
+        }
+        1 * fingerprinter.fingerprint(fileInputSnapshot, null) >> fileInputFingerprint
+        1 * snapshotter.resolveRoots(otherInput) >> otherInputRoots
+        _ * otherInputRoots.containsArchiveTrees() >> false
+        1 * otherInputRoots.snapshot() >> {
+            assert Thread.currentThread() != callingThread
+            otherInputSnapshot
+        }
+        1 * fingerprinter.fingerprint(otherInputSnapshot, null) >> otherInputFingerprint
+        0 * _
+
+        then:
+        result.fileFingerprints as Map == [
+            "file": fileInputFingerprint,
+            "other": otherInputFingerprint
+        ]
+
+        cleanup:
+        executor.stop()
+    }
+
+    def "reports fingerprinting problem of first failing file property when fingerprinting on fingerprinting executor"() {
+        def failure = new UncheckedIOException(new IOException("Error"))
+        def otherFailure = new UncheckedIOException(new IOException("Other error"))
+        def otherInput = Mock(FileCollection)
+        def otherInputRoots = Mock(FileCollectionSnapshotter.Roots)
+        def otherInputSnapshot = Mock(FileSystemSnapshot)
+        def executor = InputFingerprintingExecutor.parallel(new DefaultExecutorFactory().create("test", 2))
+        inputFingerprinter = new DefaultInputFingerprinter(snapshotter, fingerprinterRegistry, valueSnapshotter, executor)
+
+        when:
+        fingerprintInputProperties { visitor ->
+            visitor.visitInputFileProperty(
+                "file",
+                NON_INCREMENTAL,
+                new InputFileValueSupplier(fileInput, normalizer, DirectorySensitivity.DEFAULT, LineEndingSensitivity.DEFAULT, { fileInput }))
+            visitor.visitInputFileProperty(
+                "other",
+                NON_INCREMENTAL,
+                new InputFileValueSupplier(otherInput, normalizer, DirectorySensitivity.DEFAULT, LineEndingSensitivity.DEFAULT, { otherInput }))
+        }
+
+        then:
+        1 * snapshotter.resolveRoots(fileInput) >> fileInputRoots
+        _ * fileInputRoots.containsArchiveTrees() >> false
+        1 * fileInputRoots.snapshot() >> fileInputSnapshot
+        1 * fingerprinter.fingerprint(fileInputSnapshot, null) >> { throw failure }
+        1 * snapshotter.resolveRoots(otherInput) >> otherInputRoots
+        _ * otherInputRoots.containsArchiveTrees() >> false
+        1 * otherInputRoots.snapshot() >> otherInputSnapshot
+        1 * fingerprinter.fingerprint(otherInputSnapshot, null) >> { throw otherFailure }
+        0 * _
+
+        then:
+        def ex = thrown InputFingerprinter.InputFileFingerprintingException
+        ex.message == "Cannot fingerprint input file property 'file': java.io.IOException: Error"
+        ex.propertyName == "file"
+        ex.cause == failure
+
+        cleanup:
+        executor.stop()
+    }
+
     private Result fingerprintInputProperties(
         ImmutableSortedMap<String, ValueSnapshot> previousValueSnapshots = ImmutableSortedMap.of(),
         ImmutableSortedMap<String, FileCollectionFingerprint> previousFingerprints = ImmutableSortedMap.of(),
@@ -45,12 +45,14 @@ class LoggingFileSystemWatchingIntegrationTest extends AbstractFileSystemWatchin
         result.output =~ /VFS> > Stat: Executed stat\(\) x 0. getUnixMode\(\) x 0/
         result.output =~ /VFS> > FileHasher: Hashed 0 files \(0 bytes\)/
         result.output =~ /VFS> > DirectorySnapshotter: Snapshot 0 directory hierarchies \(visited 0 directories, 0 files and 0 failed files\)/
+        result.output =~ /VFS> > ResourceSnapshotterCache: Found 0 resource hashes in the cache, computed 0 resource hashes/
         result.output =~ /Received \d+ file system events during the current build while watching \d+ locations/
         result.output =~ /Virtual file system retains information about \d+ files, \d+ directories and \d+ missing files until next build/
         result.output =~ /VFS> Statistics during current build:/
         result.output =~ /VFS> > Stat: Executed stat\(\) x .*. getUnixMode\(\) x .*/
         result.output =~ /VFS> > FileHasher: Hashed .* files \(.* bytes\)/
         result.output =~ /VFS> > DirectorySnapshotter: Snapshot .* directory hierarchies \(visited .* directories, .* files and .* failed files\)/
+        result.output =~ /VFS> > ResourceSnapshotterCache: Found .* resource hashes in the cache, computed .* resource hashes/
 
         when:
         withWatchFs().run("assemble", "-D${StartParameterBuildOptions.VfsVerboseLoggingOption.GRADLE_PROPERTY}=true")
@@ -176,6 +178,27 @@ class LoggingFileSystemWatchingIntegrationTest extends AbstractFileSystemWatchin
         }
     }
 
+    def "file hashes are reused by a new daemon"() {
+        buildFile << """
+            plugins {
+                id('java')
+            }
+        """
+        file("src/main/java/MyClass.java").text = "public class MyClass { }"
+
+        when:
+        def vfsLogs = enableVerboseVfsLogs()
+        withWatchFs().run("assemble")
+        def hashedFilesInFirstDaemon = vfsLogs.hashedFilesInCurrentBuild
+        executer.withArguments("--stop").run()
+        vfsLogs = enableVerboseVfsLogs()
+        withWatchFs().run("assemble")
+        then:
+        skipped(":compileJava", ":jar")
+        // The virtual file system starts empty in the new daemon, though the hashes of unchanged files are loaded from the persistent file hash cache
+        vfsLogs.hashedFilesInCurrentBuild < hashedFilesInFirstDaemon
+    }
+
     private DaemonFixture getDaemon() {
         new DaemonLogsAnalyzer(executer.daemonBaseDir).daemon
     }
@@ -40,8 +40,15 @@ public void put(K key, V value) {
         map.put(key, value);
     }
 
-    public void retainAll(Collection<? extends K> keysToRetain) {
+    /**
+     * Discards all entries whose key is not in the given collection.
+     *
+     * @return the number of discarded entries
+     */
+    public int retainAll(Collection<? extends K> keysToRetain) {
+        int sizeBefore = map.size();
         map.keySet().retainAll(keysToRetain);
+        return Math.max(0, sizeBefore - map.size());
     }
 
     public void clear() {
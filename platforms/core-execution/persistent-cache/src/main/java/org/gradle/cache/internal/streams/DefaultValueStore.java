@@ -29,9 +29,13 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,7 +52,7 @@
     private final AtomicInteger counter = new AtomicInteger();
     private final List<Sink<T>> sinks = new CopyOnWriteArrayList<>();
     private final BlockingQueue<Sink<T>> availableSinks = new LinkedBlockingDeque<>();
-    private final ConcurrentMap<Integer, Source<T>> availableSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Source<T>> sources = new ConcurrentHashMap<>();
 
     public DefaultValueStore(
         File dir,
@@ -92,31 +96,30 @@ public BlockAddress write(T value) {
     @Override
     public T read(BlockAddress blockAddress) {
         try {
-            Source<T> source = availableSources.remove(blockAddress.fileId);
-            if (source == null) {
-                source = new Source<>(file(blockAddress.fileId), reader);
-            }
-            try {
-                return source.read(blockAddress);
-            } finally {
-                if (availableSources.putIfAbsent(blockAddress.fileId, source) != null) {
-                    // Could not retain
-                    source.close();
-                }
-            }
+            return sourceFor(blockAddress.fileId).read(blockAddress);
         } catch (Exception e) {
             throw UncheckedException.throwAsUncheckedException(e);
         }
     }
 
+    private Source<T> sourceFor(int fileId) {
+        return sources.computeIfAbsent(fileId, id -> {
+            try {
+                return new Source<>(file(id), reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     @Override
     public void close() throws IOException {
         try {
-            CompositeStoppable.stoppable().add(sinks).add(availableSources.values()).stop();
+            CompositeStoppable.stoppable().add(sinks).add(sources.values()).stop();
         } finally {
             sinks.clear();
             availableSinks.clear();
-            availableSources.clear();
+            sources.clear();
         }
     }
 
@@ -146,22 +149,25 @@ private File file(int id) {
         return new File(dir, baseName + "-" + id + ".bin");
     }
 
+    /**
+     * Reads a block using positional reads, so that any number of blocks of the same file can be read concurrently.
+     */
     private static class BlockInputStream extends InputStream {
-        private final RandomAccessFile file;
+        private final Source<?> source;
+        private long position;
         private long remaining;
 
-        public BlockInputStream(RandomAccessFile file, long remaining) {
-            this.file = file;
+        public BlockInputStream(Source<?> source, long position, long remaining) {
+            this.source = source;
+            this.position = position;
             this.remaining = remaining;
         }
 
         @Override
-        public long skip(long count) throws IOException {
-            int toSkip = (int) Math.min(count, remaining);
-            if (toSkip > 0) {
-                file.seek(file.getFilePointer() + toSkip);
-                remaining -= toSkip;
-            }
+        public long skip(long count) {
+            long toSkip = Math.min(Math.max(count, 0), remaining);
+            position += toSkip;
+            remaining -= toSkip;
             return toSkip;
         }
 
@@ -179,35 +185,73 @@ public int read(byte[] buffer, int offset, int length) throws IOException {
             if (toRead == 0) {
                 return 0;
             }
-            int read = file.read(buffer, offset, toRead);
+            int read = source.read(buffer, offset, toRead, position);
             if (read < 0) {
                 throw new IllegalStateException("Unexpected file length.");
             }
+            position += read;
             remaining -= read;
             return read;
         }
     }
 
+    /**
+     * The blocks of a single file. The file is opened once and shared by all readers.
+     *
+     * A reader that is interrupted while reading closes the channel for all readers, so the channel is reopened
+     * and the other readers retry their read.
+     */
     private static class Source<T> implements Closeable {
-        private final RandomAccessFile file;
+        private static final int MAX_BUFFER_SIZE = 4096;
+
+        private final File file;
         private final Reader<T> reader;
-        private final KryoBackedDecoder decoder;
+        private volatile FileChannel channel;
+        private boolean closed;
 
-        public Source(File file, Reader<T> reader) throws FileNotFoundException {
-            this.file = new RandomAccessFile(file, "r");
+        public Source(File file, Reader<T> reader) throws IOException {
+            this.file = file;
             this.reader = reader;
-            this.decoder = new KryoBackedDecoder(new BlockInputStream(this.file, 0));
+            this.channel = open(file);
+        }
+
+        private static FileChannel open(File file) throws IOException {
+            return FileChannel.open(file.toPath(), StandardOpenOption.READ);
         }
 
         public T read(BlockAddress blockAddress) throws Exception {
-            file.seek(blockAddress.pos);
-            decoder.restart(new BlockInputStream(file, blockAddress.length));
+            int bufferSize = (int) Math.max(1, Math.min(blockAddress.length, MAX_BUFFER_SIZE));
+            KryoBackedDecoder decoder = new KryoBackedDecoder(new BlockInputStream(this, blockAddress.pos, blockAddress.length), bufferSize);
             return reader.read(decoder);
         }
 
+        int read(byte[] buffer, int offset, int length, long position) throws IOException {
+            while (true) {
+                FileChannel current = channel;
+                try {
+                    return current.read(ByteBuffer.wrap(buffer, offset, length), position);
+                } catch (ClosedByInterruptException e) {
+                    reopen(current);
+                    throw e;
+                } catch (ClosedChannelException e) {
+                    reopen(current);
+                }
+            }
+        }
+
+        private synchronized void reopen(FileChannel closedChannel) throws IOException {
+            if (closed) {
+                throw new ClosedChannelException();
+            }
+            if (channel == closedChannel) {
+                channel = open(file);
+            }
+        }
+
         @Override
-        public void close() throws IOException {
-            file.close();
+        public synchronized void close() throws IOException {
+            closed = true;
+            channel.close();
         }
     }
 
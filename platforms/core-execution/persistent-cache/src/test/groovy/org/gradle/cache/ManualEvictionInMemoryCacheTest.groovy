@@ -58,4 +58,20 @@ class ManualEvictionInMemoryCacheTest extends Specification {
         where:
         concurrency << [8, 16, 32]
     }
+
+    def "retains only the given keys and reports the number of evicted entries"() {
+        def cache = new ManualEvictionInMemoryCache<String, String>()
+        cache.put("a", "1")
+        cache.put("b", "2")
+        cache.put("c", "3")
+
+        when:
+        def evicted = cache.retainAll(["a", "c", "d"])
+
+        then:
+        evicted == 1
+        cache.getIfPresent("a") == "1"
+        cache.getIfPresent("b") == null
+        cache.getIfPresent("c") == "3"
+    }
 }
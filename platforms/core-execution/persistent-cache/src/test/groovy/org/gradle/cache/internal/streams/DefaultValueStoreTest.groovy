@@ -25,6 +25,7 @@ import org.gradle.test.fixtures.concurrent.ConcurrentSpec
 import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
 import org.junit.Rule
 
+import java.nio.channels.ClosedByInterruptException
 import java.util.concurrent.ConcurrentHashMap
 
 class DefaultValueStoreTest extends ConcurrentSpec {
@@ -88,6 +89,33 @@ class DefaultValueStoreTest extends ConcurrentSpec {
         }
     }
 
+    def "can read block from multiple threads when one of the readers is interrupted"() {
+        expect:
+        def block = write("test")
+        read(block) == "test"
+        async {
+            4.times {
+                start {
+                    100.times {
+                        assert read(block) == "test"
+                    }
+                }
+            }
+            start {
+                Thread.currentThread().interrupt()
+                try {
+                    read(block)
+                    assert false
+                } catch (Exception e) {
+                    assert rootCauseOf(e) instanceof ClosedByInterruptException
+                } finally {
+                    Thread.interrupted()
+                }
+            }
+        }
+        read(block) == "test"
+    }
+
     def "can persist block address"() {
         expect:
         def block1 = write("test 1")
@@ -161,6 +189,10 @@ class DefaultValueStoreTest extends ConcurrentSpec {
         return store.read(block)
     }
 
+    static Throwable rootCauseOf(Throwable throwable) {
+        return throwable.cause == null ? throwable : rootCauseOf(throwable.cause)
+    }
+
     BlockAddress storeAndLoad(BlockAddress block) {
         def outstr = new ByteArrayOutputStream()
         def encoder = new KryoBackedEncoder(outstr)
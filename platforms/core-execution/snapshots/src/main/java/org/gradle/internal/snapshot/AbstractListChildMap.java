@@ -16,7 +16,8 @@
 
 package org.gradle.internal.snapshot;
 
-import java.util.ArrayList;
+import com.google.common.collect.ImmutableList;
+
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -112,9 +113,11 @@ public ChildMap<T> withNewChild(String newChildPath, T newChild) {
     }
 
     protected ChildMap<T> withNewChild(int insertBefore, String path, T newChild) {
-        List<Entry<T>> newChildren = new ArrayList<>(entries);
-        newChildren.add(insertBefore, new Entry<>(path, newChild));
-        return ChildMapFactory.childMapFromSorted(newChildren);
+        ImmutableList.Builder<Entry<T>> newChildren = ImmutableList.builderWithExpectedSize(entries.size() + 1);
+        newChildren.addAll(entries.subList(0, insertBefore));
+        newChildren.add(new Entry<>(path, newChild));
+        newChildren.addAll(entries.subList(insertBefore, entries.size()));
+        return ChildMapFactory.childMapFromSorted(newChildren.build());
     }
 
     protected ChildMap<T> withReplacedChild(int childIndex, String newPath, T newChild) {
@@ -122,15 +125,18 @@ protected ChildMap<T> withReplacedChild(int childIndex, String newPath, T newChi
         if (oldEntry.getPath().equals(newPath) && oldEntry.getValue().equals(newChild)) {
             return this;
         }
-        List<Entry<T>> newChildren = new ArrayList<>(entries);
-        newChildren.set(childIndex, new Entry<>(newPath, newChild));
-        return ChildMapFactory.childMapFromSorted(newChildren);
+        ImmutableList.Builder<Entry<T>> newChildren = ImmutableList.builderWithExpectedSize(entries.size());
+        newChildren.addAll(entries.subList(0, childIndex));
+        newChildren.add(new Entry<>(newPath, newChild));
+        newChildren.addAll(entries.subList(childIndex + 1, entries.size()));
+        return ChildMapFactory.childMapFromSorted(newChildren.build());
     }
 
     protected ChildMap<T> withRemovedChild(int childIndex) {
-        List<Entry<T>> newChildren = new ArrayList<>(entries);
-        newChildren.remove(childIndex);
-        return ChildMapFactory.childMapFromSorted(newChildren);
+        ImmutableList.Builder<Entry<T>> newChildren = ImmutableList.builderWithExpectedSize(entries.size() - 1);
+        newChildren.addAll(entries.subList(0, childIndex));
+        newChildren.addAll(entries.subList(childIndex + 1, entries.size()));
+        return ChildMapFactory.childMapFromSorted(newChildren.build());
     }
 
     @Override
@@ -46,9 +46,11 @@ public static <T> ChildMap<T> childMapFromSorted(List<ChildMap.Entry<T>> sortedE
             case 1:
                 return new SingletonChildMap<>(sortedEntries.get(0));
             default:
+                // Copy to an immutable list so that the retained list has no spare capacity
+                List<ChildMap.Entry<T>> compactEntries = ImmutableList.copyOf(sortedEntries);
                 return (size < MINIMUM_CHILD_COUNT_FOR_BINARY_SEARCH)
-                    ? new MediumChildMap<>(sortedEntries)
-                    : new LargeChildMap<>(sortedEntries);
+                    ? new MediumChildMap<>(compactEntries)
+                    : new LargeChildMap<>(compactEntries);
         }
     }
 
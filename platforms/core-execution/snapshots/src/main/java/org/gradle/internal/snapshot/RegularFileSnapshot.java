@@ -19,6 +19,7 @@
 import com.google.common.collect.Interner;
 import org.gradle.internal.file.FileMetadata;
 import org.gradle.internal.file.FileType;
+import org.gradle.internal.file.impl.DefaultFileMetadata;
 import org.gradle.internal.hash.HashCode;
 
 import java.util.Optional;
@@ -27,20 +28,27 @@
  * A snapshot of a regular file.
  *
  * The snapshot includes the content hash of the file and its metadata.
+ * The metadata is kept inline, since the virtual file system retains a snapshot for every known file.
  */
 public class RegularFileSnapshot extends AbstractFileSystemLocationSnapshot implements FileSystemLeafSnapshot {
     private final HashCode contentHash;
-    private final FileMetadata metadata;
+    private final long lastModified;
+    private final long length;
 
     public RegularFileSnapshot(String absolutePath, String name, HashCode contentHash, FileMetadata metadata) {
-        super(absolutePath, name, metadata.getAccessType());
+        this(absolutePath, name, contentHash, metadata.getLastModified(), metadata.getLength(), metadata.getAccessType());
+    }
+
+    private RegularFileSnapshot(String absolutePath, String name, HashCode contentHash, long lastModified, long length, FileMetadata.AccessType accessType) {
+        super(absolutePath, name, accessType);
         this.contentHash = contentHash;
-        this.metadata = metadata;
+        this.lastModified = lastModified;
+        this.length = length;
     }
 
     @Override
     protected Optional<RegularFileSnapshot> relocateDirectAccess(String targetPath, String name, Interner<String> interner) {
-        return Optional.of(new RegularFileSnapshot(targetPath, name, contentHash, metadata));
+        return Optional.of(new RegularFileSnapshot(targetPath, name, contentHash, lastModified, length, getAccessType()));
     }
 
     @Override
@@ -55,12 +63,18 @@ public HashCode getHash() {
 
     // Used by the Maven caching client. Do not remove
     public FileMetadata getMetadata() {
-        return metadata;
+        return DefaultFileMetadata.file(lastModified, length, getAccessType());
     }
 
     @Override
     public boolean isContentAndMetadataUpToDate(FileSystemLocationSnapshot other) {
-        return isContentUpToDate(other) && metadata.equals(((RegularFileSnapshot) other).metadata);
+        if (!isContentUpToDate(other)) {
+            return false;
+        }
+        RegularFileSnapshot otherFile = (RegularFileSnapshot) other;
+        return lastModified == otherFile.lastModified
+            && length == otherFile.length
+            && getAccessType() == otherFile.getAccessType();
     }
 
     @Override
@@ -24,6 +24,7 @@
 import org.gradle.internal.snapshot.SnapshottingFilter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -48,6 +49,14 @@ public interface FileSystemAccess {
      */
     FileSystemLocationSnapshot read(String location);
 
+    /**
+     * Reads the hierarchies of files at the given locations, in the order of the locations.
+     *
+     * Equivalent to calling {@link #read(String)} for each location, though the metadata of the locations
+     * not yet known to the file system access may be queried upfront, concurrently.
+     */
+    List<FileSystemLocationSnapshot> read(List<String> locations);
+
     /**
      * Visits the hierarchy of files which match the filter at the given location.
      *
@@ -44,22 +44,35 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 
 public class DefaultFileSystemAccess implements FileSystemAccess, FileSystemDefaultExcludesListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileSystemAccess.class);
+    /**
+     * Below this number of unknown locations, reading them concurrently does not pay off.
+     */
+    private static final int MIN_LOCATIONS_TO_READ_CONCURRENTLY = 16;
 
     private final VirtualFileSystem virtualFileSystem;
     private final FileMetadataAccessor stat;
     private final Interner<String> stringInterner;
     private final WriteListener writeListener;
     private final DirectorySnapshotterStatistics.Collector statisticsCollector;
+    private final Executor executor;
     private ImmutableList<String> defaultExcludes;
     private DirectorySnapshotter directorySnapshotter;
     private final FileHasher hasher;
@@ -72,12 +85,14 @@ public DefaultFileSystemAccess(
         VirtualFileSystem virtualFileSystem,
         WriteListener writeListener,
         DirectorySnapshotterStatistics.Collector statisticsCollector,
+        Executor executor,
         String... defaultExcludes
     ) {
         this.stringInterner = stringInterner;
         this.stat = stat;
         this.writeListener = writeListener;
         this.statisticsCollector = statisticsCollector;
+        this.executor = executor;
         this.defaultExcludes = ImmutableList.copyOf(defaultExcludes);
         this.directorySnapshotter = new DirectorySnapshotter(hasher, stringInterner, this.defaultExcludes, statisticsCollector);
         this.hasher = hasher;
@@ -93,6 +108,44 @@ public FileSystemLocationSnapshot read(String location) {
         );
     }
 
+    @Override
+    public List<FileSystemLocationSnapshot> read(List<String> locations) {
+        Map<String, FileSystemLocationSnapshot> readConcurrently = readUnknownLocationsConcurrently(locations);
+        List<FileSystemLocationSnapshot> snapshots = new ArrayList<>(locations.size());
+        for (String location : locations) {
+            FileSystemLocationSnapshot snapshot = readConcurrently.get(location);
+            snapshots.add(snapshot != null ? snapshot : read(location));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Reads the locations unknown to the virtual file system concurrently, so the latency of the individual file system queries overlaps.
+     *
+     * Each location is read the same way as {@link #read(String)} does, so the metadata is queried while storing
+     * the snapshot in the virtual file system, and a snapshot invalidated in the meantime is not retained.
+     * Locations that fail to be read are left out, so that the failure surfaces when they are read again by the caller.
+     */
+    private Map<String, FileSystemLocationSnapshot> readUnknownLocationsConcurrently(List<String> locations) {
+        List<String> unknownLocations = locations.stream()
+            .filter(location -> !virtualFileSystem.findSnapshot(location).isPresent())
+            .distinct()
+            .collect(Collectors.toList());
+        if (unknownLocations.size() < MIN_LOCATIONS_TO_READ_CONCURRENTLY) {
+            return Collections.emptyMap();
+        }
+        Map<String, FileSystemLocationSnapshot> snapshots = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] reads = unknownLocations.stream()
+            .map(location -> CompletableFuture.runAsync(() -> snapshots.put(location, read(location)), executor))
+            .toArray(CompletableFuture<?>[]::new);
+        try {
+            CompletableFuture.allOf(reads).join();
+        } catch (CompletionException e) {
+            LOGGER.debug("Could not read all of {} locations concurrently", unknownLocations.size(), e);
+        }
+        return snapshots;
+    }
+
     @Override
     public Optional<HashCode> readRegularFileContentHash(String location) {
         return virtualFileSystem.findMetadata(location)
@@ -26,4 +26,25 @@ class RegularFileSnapshotTest extends AbstractFileSystemLeafSnapshotTest {
     protected FileSystemLeafSnapshot createInitialRootNode(String absolutePath, AccessType accessType) {
         return new RegularFileSnapshot(absolutePath, PathUtil.getFileName(absolutePath), TestHashCodes.hashCodeFrom(1235), DefaultFileMetadata.file(1, 2, accessType))
     }
+
+    def "retains metadata"() {
+        def metadata = DefaultFileMetadata.file(1234, 5678, AccessType.VIA_SYMLINK)
+        def snapshot = new RegularFileSnapshot("/some/file", "file", TestHashCodes.hashCodeFrom(1235), metadata)
+
+        expect:
+        snapshot.metadata == metadata
+        snapshot.accessType == AccessType.VIA_SYMLINK
+    }
+
+    def "compares metadata when checking whether content and metadata are up-to-date"() {
+        def hash = TestHashCodes.hashCodeFrom(1235)
+        def snapshot = new RegularFileSnapshot("/some/file", "file", hash, DefaultFileMetadata.file(1, 2, AccessType.DIRECT))
+
+        expect:
+        snapshot.isContentAndMetadataUpToDate(new RegularFileSnapshot("/some/file", "file", hash, DefaultFileMetadata.file(1, 2, AccessType.DIRECT)))
+        !snapshot.isContentAndMetadataUpToDate(new RegularFileSnapshot("/some/file", "file", hash, DefaultFileMetadata.file(3, 2, AccessType.DIRECT)))
+        !snapshot.isContentAndMetadataUpToDate(new RegularFileSnapshot("/some/file", "file", hash, DefaultFileMetadata.file(1, 3, AccessType.DIRECT)))
+        !snapshot.isContentAndMetadataUpToDate(new RegularFileSnapshot("/some/file", "file", hash, DefaultFileMetadata.file(1, 2, AccessType.VIA_SYMLINK)))
+        !snapshot.isContentAndMetadataUpToDate(new RegularFileSnapshot("/some/file", "file", TestHashCodes.hashCodeFrom(1236), DefaultFileMetadata.file(1, 2, AccessType.DIRECT)))
+    }
 }
@@ -36,6 +36,7 @@ import spock.lang.Specification
 
 import javax.annotation.Nullable
 import java.nio.file.Path
+import java.util.concurrent.Executors
 import java.util.function.Predicate
 
 @CleanupTestDirectory
@@ -47,15 +48,21 @@ abstract class AbstractFileSystemAccessTest extends Specification {
     def fileSystem = new AllowingStat(TestFiles.fileSystem())
     def updateListener = Mock(FileSystemAccess.WriteListener)
     def statisticsCollector = Mock(DirectorySnapshotterStatistics.Collector)
+    def executor = Executors.newFixedThreadPool(4)
     def fileSystemAccess = new DefaultFileSystemAccess(
         fileHasher,
         new StringInterner(),
         fileSystem::stat,
         TestFiles.virtualFileSystem(),
         updateListener,
-        statisticsCollector
+        statisticsCollector,
+        executor
     )
 
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
     void allowFileSystemAccess(boolean allow) {
         fileHasher.allowHashing(allow)
         fileSystem.allowStat(allow)
@@ -17,10 +17,17 @@
 package org.gradle.internal.vfs.impl
 
 
+import org.gradle.api.internal.cache.StringInterner
+import org.gradle.api.internal.file.TestFiles
+import org.gradle.internal.file.FileMetadataAccessor
+import org.gradle.internal.snapshot.RegularFileSnapshot
 import org.gradle.internal.snapshot.SnapshotUtil
 import org.gradle.internal.snapshot.SnapshotVisitorUtil
+import org.gradle.internal.vfs.FileSystemAccess
 import org.gradle.test.fixtures.file.TestFile
 
+import java.util.concurrent.atomic.AtomicBoolean
+
 class DefaultFileSystemAccessTest extends AbstractFileSystemAccessTest {
 
     def "can read a file"() {
@@ -102,6 +109,69 @@ class DefaultFileSystemAccessTest extends AbstractFileSystemAccessTest {
         assertIsDirectorySnapshot(snapshot, subDir)
     }
 
+    def "can read many locations at once"() {
+        def files = (1..20).collect { temporaryFolder.file("files/file${it}.txt").createFile() }
+        def missingFile = temporaryFolder.file("files/missing.txt")
+        def someDir = temporaryFolder.file("some/dir").create {
+            file("inDir")
+        }
+        def locations = files + [missingFile, someDir, files[0]]
+
+        when:
+        allowFileSystemAccess(true)
+        def snapshots = fileSystemAccess.read(locations*.absolutePath)
+        then:
+        snapshots.size() == locations.size()
+        files.eachWithIndex { file, index -> assertIsFileSnapshot(snapshots[index], file) }
+        assertIsMissingFileSnapshot(snapshots[20], missingFile)
+        assertIsDirectorySnapshot(snapshots[21], someDir)
+        assertIsFileSnapshot(snapshots[22], files[0])
+
+        when:
+        allowFileSystemAccess(false)
+        snapshots = fileSystemAccess.read(locations*.absolutePath)
+        then:
+        snapshots*.absolutePath == locations*.absolutePath
+    }
+
+    def "does not retain a location that is invalidated while reading many locations at once"() {
+        def files = (1..20).collect { temporaryFolder.file("files/file${it}.txt").createFile() }
+        def changedFile = files[5]
+        def changed = new AtomicBoolean()
+        FileSystemAccess access
+        def stat = { File file ->
+            def metadata = TestFiles.fileSystem().stat(file)
+            if (file == changedFile && changed.compareAndSet(false, true)) {
+                // Simulates another writer modifying the file after its metadata has been queried
+                changedFile.text = "changed"
+                access.invalidate([changedFile.absolutePath])
+            }
+            return metadata
+        } as FileMetadataAccessor
+        access = new DefaultFileSystemAccess(
+            TestFiles.fileHasher(),
+            new StringInterner(),
+            stat,
+            TestFiles.virtualFileSystem(),
+            Stub(FileSystemAccess.WriteListener),
+            statisticsCollector,
+            executor
+        )
+
+        when:
+        def snapshots = access.read(files*.absolutePath)
+        then:
+        snapshots*.absolutePath == files*.absolutePath
+        changed.get()
+
+        when:
+        def snapshot = access.read(changedFile.absolutePath)
+        then:
+        snapshot instanceof RegularFileSnapshot
+        (snapshot as RegularFileSnapshot).metadata.length == "changed".length()
+        snapshot.hash == TestFiles.fileHasher().hash(changedFile)
+    }
+
     def "invalidate regular file"() {
         def parentDir = temporaryFolder.file("in/some")
         def someFile = parentDir.file("directory/somefile.txt").createFile()
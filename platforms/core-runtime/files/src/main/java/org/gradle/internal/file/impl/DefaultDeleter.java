@@ -23,6 +23,7 @@
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -31,6 +32,10 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 
@@ -41,6 +46,8 @@ public class DefaultDeleter implements Deleter {
     private final LongSupplier timeProvider;
     private final Predicate<? super File> isSymlink;
     private final boolean runGcOnFailedDelete;
+    @Nullable
+    private final Executor executor;
 
     private static final int DELETE_RETRY_SLEEP_MILLIS = 10;
 
@@ -56,9 +63,18 @@ public class DefaultDeleter implements Deleter {
     static final String HELP_NEW_CHILDREN = "New files were found. This might happen because a process is still writing to the target directory.";
 
     public DefaultDeleter(LongSupplier timeProvider, Predicate<? super File> isSymlink, boolean runGcOnFailedDelete) {
+        this(timeProvider, isSymlink, runGcOnFailedDelete, null);
+    }
+
+    /**
+     * Creates a deleter that deletes sibling directories concurrently on the given executor.
+     * The executor should be bounded, as deleting large trees can submit many directories at once.
+     */
+    public DefaultDeleter(LongSupplier timeProvider, Predicate<? super File> isSymlink, boolean runGcOnFailedDelete, @Nullable Executor executor) {
         this.timeProvider = timeProvider;
         this.isSymlink = isSymlink;
         this.runGcOnFailedDelete = runGcOnFailedDelete;
+        this.executor = executor;
     }
 
     @Override
@@ -111,17 +127,21 @@ public boolean delete(File target) throws IOException {
     private boolean deleteRecursively(File root, Handling handling) throws IOException {
         LOGGER.debug("Deleting {}", root);
         long startTime = timeProvider.getAsLong();
-        Map<String, FileDeletionResult> failedPaths = new LinkedHashMap<String, FileDeletionResult>();
-        boolean attemptedToRemoveAnything = deleteRecursively(startTime, root, root, handling, failedPaths);
-        if (!failedPaths.isEmpty()) {
-            throwWithHelpMessage(startTime, root, handling, failedPaths, false);
+        DeletionProgress progress = new DeletionProgress();
+        boolean attemptedToRemoveAnything = deleteRecursively(root, shouldRemoveContentsOf(root, handling), handling, progress, executor != null);
+        if (!progress.failedPaths.isEmpty()) {
+            throwWithHelpMessage(startTime, root, handling, progress.failedPaths, progress.isFailingFast());
         }
+        LOGGER.debug("Deleted {} files and directories from {}", progress.deletedCount.get(), root);
         return attemptedToRemoveAnything;
     }
 
-    private boolean deleteRecursively(long startTime, File baseDir, File file, Handling handling, Map<String, FileDeletionResult> failedPaths) throws IOException {
+    private boolean deleteRecursively(File file, boolean removeContents, Handling handling, DeletionProgress progress, boolean mayDeleteConcurrently) throws IOException {
+        if (progress.isFailingFast()) {
+            return true;
+        }
 
-        if (shouldRemoveContentsOf(file, handling)) {
+        if (removeContents) {
             File[] contents = file.listFiles();
 
             // Something else may have removed it
@@ -129,27 +149,66 @@ private boolean deleteRecursively(long startTime, File baseDir, File file, Handl
                 return false;
             }
 
-            boolean attemptedToDeleteAnything = false;
+            Handling descendantHandling = handling.getDescendantHandling();
+            List<File> directories = new ArrayList<File>();
             for (File item : contents) {
-                deleteRecursively(startTime, baseDir, item, handling.getDescendantHandling(), failedPaths);
-                attemptedToDeleteAnything = true;
+                if (shouldRemoveContentsOf(item, descendantHandling)) {
+                    directories.add(item);
+                } else {
+                    deleteRecursively(item, false, descendantHandling, progress, false);
+                }
+            }
+            if (mayDeleteConcurrently && directories.size() > 1) {
+                deleteConcurrently(directories, descendantHandling, progress);
+            } else {
+                for (File directory : directories) {
+                    deleteRecursively(directory, true, descendantHandling, progress, mayDeleteConcurrently);
+                }
             }
 
-            if (handling.shouldKeepEntry()) {
-                return attemptedToDeleteAnything;
+            if (handling.shouldKeepEntry() || progress.isFailingFast()) {
+                return contents.length > 0;
             }
         }
 
         FileDeletionResult result = tryHardToDelete(file);
-        if (!result.isSuccessful) {
-            failedPaths.put(file.getAbsolutePath(), result);
+        if (result.isSuccessful) {
+            progress.deletedCount.incrementAndGet();
+        } else {
+            progress.failed(file.getAbsolutePath(), result);
+        }
+        return true;
+    }
 
-            // Fail fast
-            if (failedPaths.size() == MAX_REPORTED_PATHS) {
-                throwWithHelpMessage(startTime, baseDir, handling, failedPaths, true);
+    /**
+     * Deletes sibling directories concurrently, as deleting large trees is dominated by the latency of the individual file system operations.
+     *
+     * Each sibling is deleted sequentially on the executor, so tasks on the executor never wait for each other.
+     * A failure is only reported once all siblings are done, so no deletion is still running when the caller sees it.
+     */
+    private void deleteConcurrently(List<File> directories, Handling handling, DeletionProgress progress) throws IOException {
+        List<CompletableFuture<Void>> deletions = new ArrayList<CompletableFuture<Void>>(directories.size());
+        for (File directory : directories) {
+            deletions.add(CompletableFuture.runAsync(() -> {
+                try {
+                    deleteRecursively(directory, true, handling, progress, false);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(deletions.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
             }
+            throw e;
         }
-        return true;
     }
 
     private boolean shouldRemoveContentsOf(File file, Handling handling) {
@@ -209,6 +268,33 @@ protected FileDeletionResult deleteFile(final File file) {
         }
     }
 
+    /**
+     * Tracks a recursive deletion that may run on several threads.
+     *
+     * Once {@link #MAX_REPORTED_PATHS} paths have failed, the deletion fails fast: no further paths are deleted,
+     * and the failure is reported by the calling thread once all concurrent deletions have stopped.
+     */
+    private static final class DeletionProgress {
+        private final Map<String, FileDeletionResult> failedPaths = new LinkedHashMap<String, FileDeletionResult>();
+        private final AtomicLong deletedCount = new AtomicLong();
+        private volatile boolean failingFast;
+
+        void failed(String path, FileDeletionResult result) {
+            synchronized (failedPaths) {
+                if (failedPaths.size() < MAX_REPORTED_PATHS) {
+                    failedPaths.put(path, result);
+                }
+                if (failedPaths.size() >= MAX_REPORTED_PATHS) {
+                    failingFast = true;
+                }
+            }
+        }
+
+        boolean isFailingFast() {
+            return failingFast;
+        }
+    }
+
     protected static final class FileDeletionResult {
 
         static FileDeletionResult withoutException(boolean isSuccessful) {
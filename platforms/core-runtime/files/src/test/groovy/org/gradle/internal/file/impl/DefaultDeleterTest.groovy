@@ -24,7 +24,12 @@ import org.junit.Rule
 import spock.lang.Issue
 import spock.lang.Specification
 
+import javax.annotation.Nullable
 import java.nio.file.Files
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 import java.util.function.Function
 
 import static org.gradle.util.internal.TextUtil.normaliseLineSeparators
@@ -38,6 +43,11 @@ class DefaultDeleterTest extends Specification {
         { File file -> Files.isSymbolicLink(file.toPath()) },
         false
     )
+    ExecutorService executor = Executors.newFixedThreadPool(4)
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
 
     def "deletes directory"() {
         given:
@@ -52,6 +62,28 @@ class DefaultDeleterTest extends Specification {
         didWork
     }
 
+    def "deletes directory with many subdirectories"() {
+        given:
+        TestFile dir = tmpDir.createDir("target")
+        (1..10).each { i ->
+            (1..5).each { j ->
+                dir.file("dir-${i}/sub-${j}/file.txt").createFile()
+            }
+            dir.file("dir-${i}/file.txt").createFile()
+        }
+        dir.file("file.txt").createFile()
+
+        and:
+        deleter = FileTime.deleterWithDeletionAction(executor) { DeletionAction.CONTINUE }
+
+        when:
+        boolean didWork = deleter.deleteRecursively(dir)
+
+        then:
+        dir.assertDoesNotExist()
+        didWork
+    }
+
     def "deletes file"() {
         given:
         TestFile dir = tmpDir.getTestDirectory()
@@ -290,6 +322,75 @@ class DefaultDeleterTest extends Specification {
         """.stripIndent().trim()
     }
 
+    def "reports failed to delete file in one of many subdirectories"() {
+
+        given:
+        def targetDir = tmpDir.createDir("target")
+        def deletableDirs = (1..5).collect { targetDir.createDir("dir-${it}") }
+        deletableDirs.each { it.createFile("delete.yes") }
+        def nonDeletable = targetDir.createDir("dir-6").createFile("delete.no")
+
+        and:
+        deleter = FileTime.deleterWithDeletionAction(executor) { file ->
+            file.canonicalFile == nonDeletable.canonicalFile
+                ? DeletionAction.FAILURE
+                : DeletionAction.CONTINUE
+        }
+
+        when:
+        deleter.deleteRecursively(targetDir)
+
+        then:
+        deletableDirs.each { it.assertDoesNotExist() }
+        nonDeletable.assertIsFile()
+
+        and:
+        def ex = thrown IOException
+        normaliseLineSeparators(ex.message) == """
+            Unable to delete directory '$targetDir'
+              ${DefaultDeleter.HELP_FAILED_DELETE_CHILDREN}
+              - $nonDeletable
+              - ${nonDeletable.parentFile}
+        """.stripIndent().trim()
+    }
+
+    def "reports failures in concurrently deleted subdirectories once all subdirectories are deleted"() {
+
+        given:
+        def targetDir = tmpDir.createDir("target")
+        def nonDeletable = ["dir-a", "dir-b"].collect { targetDir.createDir(it).createFile("delete.no") }
+        def slowDir = targetDir.createDir("dir-slow")
+        def slowFiles = (1..10).collect { slowDir.createFile("slow-${it}.txt") }
+
+        and:
+        def nonDeletablePaths = nonDeletable*.canonicalFile as Set
+        deleter = FileTime.deleterWithDeletionAction(executor) { file ->
+            if (file.parentFile.canonicalFile == slowDir.canonicalFile) {
+                Thread.sleep(20)
+            }
+            nonDeletablePaths.contains(file.canonicalFile)
+                ? DeletionAction.FAILURE
+                : DeletionAction.CONTINUE
+        }
+
+        when:
+        deleter.deleteRecursively(targetDir)
+
+        then:
+        def ex = thrown IOException
+        def message = normaliseLineSeparators(ex.message)
+        message.startsWith("Unable to delete directory '$targetDir'\n  ${DefaultDeleter.HELP_FAILED_DELETE_CHILDREN}")
+        nonDeletable.each {
+            assert message.contains("\n  - $it\n")
+            assert message.contains("\n  - ${it.parentFile}")
+        }
+
+        and: 'the slow sibling was deleted before the failure was reported'
+        slowFiles.each { it.assertDoesNotExist() }
+        slowDir.assertDoesNotExist()
+        nonDeletable.each { it.assertIsFile() }
+    }
+
     def "reports new child files after failure to delete directory"() {
 
         given:
@@ -403,6 +504,34 @@ class DefaultDeleterTest extends Specification {
         normalizedMessage.readLines().size() == DefaultDeleter.MAX_REPORTED_PATHS * 2 + 5
     }
 
+    def "fails fast and stops deleting concurrently deleted subdirectories"() {
+
+        given:
+        def targetDir = tmpDir.createDir("target")
+        def nonDeletableDirs = (1..(DefaultDeleter.MAX_REPORTED_PATHS * 4)).collect { targetDir.createDir("dir-${it}") }
+        nonDeletableDirs.each { it.createFile("delete.no") }
+
+        and:
+        def triedToDelete = ConcurrentHashMap.newKeySet()
+        deleter = FileTime.deleterWithDeletionAction(executor) { file ->
+            triedToDelete << file
+            return DeletionAction.FAILURE
+        }
+
+        when:
+        deleter.deleteRecursively(targetDir)
+
+        then:
+        def ex = thrown IOException
+        def normalizedMessage = normaliseLineSeparators(ex.message)
+        normalizedMessage.startsWith("Unable to delete directory '$targetDir'\n  ${DefaultDeleter.HELP_FAILED_DELETE_CHILDREN}")
+        normalizedMessage.contains("\n  - and more ...")
+
+        and: 'only deletions already running when the cap was reached were completed'
+        triedToDelete.size() < DefaultDeleter.MAX_REPORTED_PATHS + 4
+        targetDir.assertIsDir()
+    }
+
     class FileTime {
 
         static long oldTime = 1000
@@ -410,10 +539,15 @@ class DefaultDeleterTest extends Specification {
         static long newTime = startTime + 2000
 
         static DefaultDeleter deleterWithDeletionAction(Function<File, DeletionAction> deletionAction) {
+            deleterWithDeletionAction(null, deletionAction)
+        }
+
+        static DefaultDeleter deleterWithDeletionAction(@Nullable Executor executor, Function<File, DeletionAction> deletionAction) {
             new DefaultDeleter(
                 { startTime },
                 { File file -> Files.isSymbolicLink(file.toPath()) },
-                false
+                false,
+                executor
             ) {
                 @Override
                 protected DefaultDeleter.FileDeletionResult deleteFile(File file) {
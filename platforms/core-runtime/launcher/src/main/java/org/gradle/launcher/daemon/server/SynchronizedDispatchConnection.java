@@ -27,7 +27,7 @@
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Connection decorator that synchronizes dispatching and always flushes after each message.
+ * Connection decorator that synchronizes dispatching and always flushes after each message, or after each batch of messages.
  *
  * The plan is to replace this with a Connection implementation that queues outgoing messages and dispatches them from a worker thread.
  */
@@ -47,11 +47,7 @@ public void dispatchAndFlush(T message) {
         }
         lock.lock();
         try {
-            if (dispatching) {
-                // Safety check: dispatching a message should not cause the thread to dispatch another message (eg should not do any logging)
-                throw new IllegalStateException("This thread is already dispatching a message.");
-            }
-            dispatching = true;
+            startDispatching();
             try {
                 delegate.dispatch(message);
                 delegate.flush();
@@ -63,6 +59,34 @@ public void dispatchAndFlush(T message) {
         }
     }
 
+    /**
+     * Dispatches the given messages in order, and flushes once all of them have been dispatched.
+     */
+    public void dispatchAllAndFlush(Iterable<? extends T> messages) {
+        lock.lock();
+        try {
+            startDispatching();
+            try {
+                for (T message : messages) {
+                    delegate.dispatch(message);
+                }
+                delegate.flush();
+            } finally {
+                dispatching = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void startDispatching() {
+        if (dispatching) {
+            // Safety check: dispatching a message should not cause the thread to dispatch another message (eg should not do any logging)
+            throw new IllegalStateException("This thread is already dispatching a message.");
+        }
+        dispatching = true;
+    }
+
     @Override
     public T receive() {
         //in case one wants to synchronize this method,
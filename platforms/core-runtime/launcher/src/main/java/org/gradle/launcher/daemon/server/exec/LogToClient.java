@@ -18,19 +18,28 @@
 import org.gradle.api.logging.LogLevel;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
+import com.google.common.annotations.VisibleForTesting;
 import org.gradle.internal.logging.LoggingOutputInternal;
 import org.gradle.internal.logging.events.OutputEvent;
 import org.gradle.internal.logging.events.OutputEventListener;
 import org.gradle.internal.logging.events.ProgressCompleteEvent;
 import org.gradle.internal.logging.events.ProgressEvent;
 import org.gradle.internal.logging.events.ProgressStartEvent;
+import org.gradle.internal.operations.OperationIdentifier;
+import org.gradle.internal.time.Time;
+import org.gradle.internal.time.Timer;
 import org.gradle.launcher.daemon.diagnostics.DaemonDiagnostics;
 import org.gradle.launcher.daemon.logging.DaemonMessages;
 import org.gradle.launcher.daemon.protocol.Build;
 import org.gradle.launcher.daemon.server.api.DaemonCommandExecution;
 import org.gradle.launcher.daemon.server.api.DaemonConnection;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 
@@ -39,6 +48,11 @@ public class LogToClient extends BuildCommandOnly {
     public static final String DISABLE_OUTPUT = "org.gradle.daemon.disable-output";
     private static final Logger LOGGER = Logging.getLogger(LogToClient.class);
 
+    /**
+     * The maximum number of queued events sent to the client with a single flush of the connection.
+     */
+    private static final int MAX_BATCH_SIZE = 512;
+
     private final LoggingOutputInternal loggingOutput;
     private final DaemonDiagnostics diagnostics;
 
@@ -66,6 +80,34 @@ protected void doBuild(final DaemonCommandExecution execution, Build build) {
         }
     }
 
+    /**
+     * Removes the progress updates of the given batch that are superseded by a later update of the same operation in the batch.
+     * The client only renders the latest status of an operation, so only the last update before each start or completion of the
+     * operation needs to be sent.
+     *
+     * @return the number of removed events.
+     */
+    @VisibleForTesting
+    static int coalesceProgressEvents(List<OutputEvent> batch) {
+        int removed = 0;
+        Set<OperationIdentifier> updatedLater = new HashSet<OperationIdentifier>();
+        ListIterator<OutputEvent> iterator = batch.listIterator(batch.size());
+        while (iterator.hasPrevious()) {
+            OutputEvent event = iterator.previous();
+            if (event instanceof ProgressEvent) {
+                if (!updatedLater.add(((ProgressEvent) event).getProgressOperationId())) {
+                    iterator.remove();
+                    removed++;
+                }
+            } else if (event instanceof ProgressStartEvent) {
+                updatedLater.remove(((ProgressStartEvent) event).getProgressOperationId());
+            } else if (event instanceof ProgressCompleteEvent) {
+                updatedLater.remove(((ProgressCompleteEvent) event).getProgressOperationId());
+            }
+        }
+        return removed;
+    }
+
     private class AsynchronousLogDispatcher extends Thread {
         private final CountDownLatch completionLock = new CountDownLatch(1);
         private final Queue<OutputEvent> eventQueue = new ConcurrentLinkedQueue<OutputEvent>();
@@ -73,6 +115,10 @@ private class AsynchronousLogDispatcher extends Thread {
         private final OutputEventListener listener;
         private volatile boolean shouldStop;
         private boolean unableToSend;
+        private final Timer timer = Time.startTimer();
+        private long sentEvents;
+        private long sentBatches;
+        private long coalescedEvents;
 
         private AsynchronousLogDispatcher(DaemonConnection conn, final LogLevel buildLogLevel) {
             super("Asynchronous log dispatcher for " + conn);
@@ -102,12 +148,12 @@ public void submit(OutputEvent event) {
         @Override
         public void run() {
             try {
+                List<OutputEvent> batch = new ArrayList<OutputEvent>(MAX_BATCH_SIZE);
                 while (!shouldStop) {
-                    OutputEvent event = eventQueue.poll();
-                    if (event == null) {
-                        Thread.sleep(10);
+                    if (drainTo(batch)) {
+                        dispatchAsync(batch);
                     } else {
-                        dispatchAsync(event);
+                        Thread.sleep(10);
                     }
                 }
             } catch (InterruptedException ex) {
@@ -121,23 +167,40 @@ public void run() {
         }
 
         private void sendRemainingEvents() {
-            OutputEvent event;
-            while ((event = eventQueue.poll()) != null) {
-                dispatchAsync(event);
+            List<OutputEvent> batch = new ArrayList<OutputEvent>(MAX_BATCH_SIZE);
+            while (drainTo(batch)) {
+                dispatchAsync(batch);
             }
         }
 
-        private void dispatchAsync(OutputEvent event) {
-            if (unableToSend) {
-                return;
+        /**
+         * Moves up to {@link #MAX_BATCH_SIZE} queued events into the given empty batch.
+         *
+         * @return true if any events were moved.
+         */
+        private boolean drainTo(List<OutputEvent> batch) {
+            OutputEvent event;
+            while (batch.size() < MAX_BATCH_SIZE && (event = eventQueue.poll()) != null) {
+                batch.add(event);
             }
+            return !batch.isEmpty();
+        }
+
+        private void dispatchAsync(List<OutputEvent> batch) {
             try {
-                connection.logEvent(event);
+                if (!unableToSend) {
+                    coalescedEvents += coalesceProgressEvents(batch);
+                    connection.logEvents(batch);
+                    sentEvents += batch.size();
+                    sentBatches++;
+                }
             } catch (Exception ex) {
                 shouldStop = true;
                 unableToSend = true;
                 //Ignore. It means the client has disconnected so no point sending him any log output.
                 //we should be checking if client still listens elsewhere anyway.
+            } finally {
+                batch.clear();
             }
         }
 
@@ -148,6 +211,12 @@ public void waitForCompletion() {
                 completionLock.await();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                return;
+            }
+            if (LOGGER.isDebugEnabled()) {
+                long elapsedMillis = Math.max(timer.getElapsedMillis(), 1);
+                LOGGER.debug("Relayed {} output events to the client in {} batches in {} ms ({} events/s), dropped {} superseded progress updates.",
+                    sentEvents, sentBatches, elapsedMillis, sentEvents * 1000 / elapsedMillis, coalescedEvents);
             }
         }
     }
@@ -18,6 +18,7 @@
 
 import org.gradle.api.internal.StartParameterInternal;
 import org.gradle.api.internal.changedetection.state.FileHasherStatistics;
+import org.gradle.api.internal.changedetection.state.ResourceSnapshotterCacheStatistics;
 import org.gradle.deployment.internal.DeploymentRegistryInternal;
 import org.gradle.initialization.StartParameterBuildOptions;
 import org.gradle.internal.buildoption.InternalOptions;
@@ -46,6 +47,7 @@ public class FileSystemWatchingBuildActionRunner implements BuildActionRunner {
     private final StatStatistics.Collector statStatisticsCollector;
     private final FileHasherStatistics.Collector fileHasherStatisticsCollector;
     private final DirectorySnapshotterStatistics.Collector directorySnapshotterStatisticsCollector;
+    private final ResourceSnapshotterCacheStatistics.Collector resourceSnapshotterCacheStatisticsCollector;
     private final BuildOperationRunner buildOperationRunner;
     private final BuildActionRunner delegate;
     private final InternalOptions options;
@@ -57,6 +59,7 @@ public FileSystemWatchingBuildActionRunner(
         StatStatistics.Collector statStatisticsCollector,
         FileHasherStatistics.Collector fileHasherStatisticsCollector,
         DirectorySnapshotterStatistics.Collector directorySnapshotterStatisticsCollector,
+        ResourceSnapshotterCacheStatistics.Collector resourceSnapshotterCacheStatisticsCollector,
         BuildOperationRunner buildOperationRunner,
         BuildActionRunner delegate,
         InternalOptions options
@@ -67,6 +70,7 @@ public FileSystemWatchingBuildActionRunner(
         this.statStatisticsCollector = statStatisticsCollector;
         this.fileHasherStatisticsCollector = fileHasherStatisticsCollector;
         this.directorySnapshotterStatisticsCollector = directorySnapshotterStatisticsCollector;
+        this.resourceSnapshotterCacheStatisticsCollector = resourceSnapshotterCacheStatisticsCollector;
         this.buildOperationRunner = buildOperationRunner;
         this.delegate = delegate;
         this.options = options;
@@ -96,7 +100,7 @@ public Result run(BuildAction action, BuildTreeLifecycleController buildControll
             dropVirtualFileSystemIfRequested(options, virtualFileSystem);
         }
         if (verboseVfsLogging == VfsLogging.VERBOSE) {
-            logVfsStatistics("since last build", statStatisticsCollector, fileHasherStatisticsCollector, directorySnapshotterStatisticsCollector);
+            logVfsStatistics("since last build", statStatisticsCollector, fileHasherStatisticsCollector, directorySnapshotterStatisticsCollector, resourceSnapshotterCacheStatisticsCollector);
         }
 
         if (action.getStartParameter().getProjectCacheDir() != null) {
@@ -148,7 +152,7 @@ public boolean isEnabled() {
                 maximumNumberOfWatchedHierarchies
             );
             if (verboseVfsLogging == VfsLogging.VERBOSE) {
-                logVfsStatistics("during current build", statStatisticsCollector, fileHasherStatisticsCollector, directorySnapshotterStatisticsCollector);
+                logVfsStatistics("during current build", statStatisticsCollector, fileHasherStatisticsCollector, directorySnapshotterStatisticsCollector, resourceSnapshotterCacheStatisticsCollector);
             }
         }
     }
@@ -157,12 +161,14 @@ private static void logVfsStatistics(
         String title,
         StatStatistics.Collector statStatisticsCollector,
         FileHasherStatistics.Collector fileHasherStatisticsCollector,
-        DirectorySnapshotterStatistics.Collector directorySnapshotterStatisticsCollector
+        DirectorySnapshotterStatistics.Collector directorySnapshotterStatisticsCollector,
+        ResourceSnapshotterCacheStatistics.Collector resourceSnapshotterCacheStatisticsCollector
     ) {
         LOGGER.warn("VFS> Statistics {}:", title);
         LOGGER.warn("VFS> > Stat: {}", statStatisticsCollector.collect());
         LOGGER.warn("VFS> > FileHasher: {}", fileHasherStatisticsCollector.collect());
         LOGGER.warn("VFS> > DirectorySnapshotter: {}", directorySnapshotterStatisticsCollector.collect());
+        LOGGER.warn("VFS> > ResourceSnapshotterCache: {}", resourceSnapshotterCacheStatisticsCollector.collect());
     }
 
     private static void dropVirtualFileSystemIfRequested(InternalOptions options, BuildLifecycleAwareVirtualFileSystem virtualFileSystem) {
@@ -18,6 +18,7 @@
 
 import org.gradle.StartParameter;
 import org.gradle.api.internal.changedetection.state.FileHasherStatistics;
+import org.gradle.api.internal.changedetection.state.ResourceSnapshotterCacheStatistics;
 import org.gradle.api.problems.internal.InternalProblems;
 import org.gradle.deployment.internal.DeploymentRegistryInternal;
 import org.gradle.execution.WorkValidationWarningReporter;
@@ -231,6 +232,7 @@ BuildTreeActionExecutor createActionExecutor(
             StatStatistics.Collector statStatisticsCollector,
             FileHasherStatistics.Collector fileHasherStatisticsCollector,
             DirectorySnapshotterStatistics.Collector directorySnapshotterStatisticsCollector,
+            ResourceSnapshotterCacheStatistics.Collector resourceSnapshotterCacheStatisticsCollector,
             BuildOperationRunner buildOperationRunner,
             BuildLayout buildLayout,
             ExceptionAnalyser exceptionAnalyser,
@@ -254,6 +256,7 @@ BuildTreeActionExecutor createActionExecutor(
                                 statStatisticsCollector,
                                 fileHasherStatisticsCollector,
                                 directorySnapshotterStatisticsCollector,
+                                resourceSnapshotterCacheStatisticsCollector,
                                 buildOperationRunner,
                                 new BuildOutcomeReportingBuildActionRunner(
                                     styledTextOutputFactory,
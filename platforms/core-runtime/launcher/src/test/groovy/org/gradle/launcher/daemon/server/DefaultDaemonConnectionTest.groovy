@@ -16,11 +16,14 @@
 
 package org.gradle.launcher.daemon.server
 
+import org.gradle.api.logging.LogLevel
+import org.gradle.internal.logging.events.LogEvent
 import org.gradle.internal.remote.internal.MessageIOException
 import org.gradle.internal.remote.internal.RemoteConnection
 import org.gradle.launcher.daemon.protocol.CloseInput
 import org.gradle.launcher.daemon.protocol.ForwardInput
 import org.gradle.launcher.daemon.protocol.Message
+import org.gradle.launcher.daemon.protocol.OutputMessage
 import org.gradle.launcher.daemon.server.api.StdinHandler
 import org.gradle.util.ConcurrentSpecification
 
@@ -349,19 +352,37 @@ class DefaultDaemonConnectionTest extends ConcurrentSpecification {
         result*.message == ["incoming1", "incoming2"]
     }
 
+    def "dispatches batch of log events with a single flush"() {
+        def event1 = new LogEvent(0, "category", LogLevel.LIFECYCLE, "message 1", null)
+        def event2 = new LogEvent(0, "category", LogLevel.LIFECYCLE, "message 2", null)
+
+        when:
+        daemonConnection.logEvents([event1, event2])
+
+        then:
+        connection.outgoing.size() == 3
+        connection.outgoing[0] instanceof OutputMessage
+        connection.outgoing[0].event == event1
+        connection.outgoing[1] instanceof OutputMessage
+        connection.outgoing[1].event == event2
+        connection.outgoing[2] == "flush"
+    }
+
     static class TestConnection implements RemoteConnection<Message> {
         private final def lock = new Object()
         private final def endInput = new Received("end")
         private final def receiveQueue = new LinkedList<Message>()
 
+        final def outgoing = []
+
         @Override
         void dispatch(Message message) throws MessageIOException {
-            throw new UnsupportedOperationException()
+            outgoing << message
         }
 
         @Override
         void flush() throws MessageIOException {
-            throw new UnsupportedOperationException()
+            outgoing << "flush"
         }
 
         void queueIncoming(String message) {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server.exec
+
+import org.gradle.api.logging.LogLevel
+import org.gradle.internal.logging.events.LogEvent
+import org.gradle.internal.logging.events.OutputEvent
+import org.gradle.internal.logging.events.ProgressCompleteEvent
+import org.gradle.internal.logging.events.ProgressEvent
+import org.gradle.internal.logging.events.ProgressStartEvent
+import org.gradle.internal.operations.OperationIdentifier
+import spock.lang.Specification
+
+class LogToClientTest extends Specification {
+
+    def "keeps only the latest progress update of each operation in a batch"() {
+        def log = new LogEvent(0, "category", LogLevel.LIFECYCLE, "message", null)
+        List<OutputEvent> batch = [progress(1, "a"), progress(2, "x"), log, progress(1, "b"), progress(1, "c"), progress(2, "y")]
+
+        expect:
+        LogToClient.coalesceProgressEvents(batch) == 3
+        batch*.toString() == [log, progress(1, "c"), progress(2, "y")]*.toString()
+    }
+
+    def "keeps the last progress update before an operation completes"() {
+        List<OutputEvent> batch = [progress(1, "a"), progress(1, "b"), complete(1), start(1), progress(1, "c"), progress(1, "d")]
+
+        expect:
+        LogToClient.coalesceProgressEvents(batch) == 2
+        batch*.toString() == [progress(1, "b"), complete(1), start(1), progress(1, "d")]*.toString()
+    }
+
+    def "leaves batches without superseded progress updates unchanged"() {
+        List<OutputEvent> batch = [start(1), progress(1, "a"), start(2), progress(2, "b"), complete(2), complete(1)]
+        def original = new ArrayList<OutputEvent>(batch)
+
+        expect:
+        LogToClient.coalesceProgressEvents(batch) == 0
+        batch == original
+    }
+
+    private static ProgressStartEvent start(long id) {
+        new ProgressStartEvent(new OperationIdentifier(id), null, 0, "category", "operation ${id}", null, "", 0, false, null, null)
+    }
+
+    private static ProgressEvent progress(long id, String status) {
+        new ProgressEvent(new OperationIdentifier(id), status, false)
+    }
+
+    private static ProgressCompleteEvent complete(long id) {
+        new ProgressCompleteEvent(new OperationIdentifier(id), 0, "done", false)
+    }
+}
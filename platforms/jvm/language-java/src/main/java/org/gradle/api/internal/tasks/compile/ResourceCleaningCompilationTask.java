@@ -27,6 +27,12 @@
 
 /**
  * Cleans up resources (e.g. file handles) after compilation has finished.
+ *
+ * The archives opened by the file manager are deliberately not kept open for later compilations.
+ * The open handles would prevent upstream jars from being rewritten on Windows, and javac identifies
+ * archives by path rather than by content, so a cached archive could be stale by the next compilation.
+ * The compiler class loader is reused via {@link JavaHomeBasedJavaCompilerFactory},
+ * so javac's static caches already survive between compilations in the same process.
  */
 class ResourceCleaningCompilationTask implements JavaCompiler.CompilationTask {
     private final JavaCompiler.CompilationTask delegate;
@@ -18,6 +18,7 @@
 
 import org.gradle.api.internal.tasks.compile.incremental.deps.ClassSetAnalysisData;
 import org.gradle.cache.Cache;
+import org.gradle.cache.internal.ProducerGuard;
 import org.gradle.internal.hash.HashCode;
 import org.gradle.internal.snapshot.FileSystemLocationSnapshot;
 import org.gradle.internal.vfs.FileSystemAccess;
@@ -29,6 +30,7 @@ public class CachingClassSetAnalyzer implements ClassSetAnalyzer {
     private final ClassSetAnalyzer delegate;
     private final FileSystemAccess fileSystemAccess;
     private final Cache<HashCode, ClassSetAnalysisData> cache;
+    private final ProducerGuard<HashCode> guard = ProducerGuard.adaptive();
 
     public CachingClassSetAnalyzer(ClassSetAnalyzer delegate,
                                    FileSystemAccess fileSystemAccess,
@@ -41,7 +43,13 @@ public CachingClassSetAnalyzer(ClassSetAnalyzer delegate,
     @Override
     public ClassSetAnalysisData analyzeClasspathEntry(final File classpathEntry) {
         FileSystemLocationSnapshot snapshot = fileSystemAccess.read(classpathEntry.getAbsolutePath());
-        return cache.get(snapshot.getHash(), hash -> delegate.analyzeClasspathEntry(classpathEntry));
+        HashCode hash = snapshot.getHash();
+        ClassSetAnalysisData cached = cache.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+        // When a library changes, all the compile tasks consuming it need its analysis at about the same time, so only analyze it once
+        return guard.guardByKey(hash, () -> cache.get(hash, h -> delegate.analyzeClasspathEntry(classpathEntry)));
     }
 
     @Override
@@ -39,20 +39,20 @@ public DependentsSet read(Decoder decoder) throws Exception {
             return DependentsSet.dependencyToAll(decoder.readString());
         }
 
-        ImmutableSet.Builder<String> privateBuilder = ImmutableSet.builder();
         int count = decoder.readSmallInt();
+        ImmutableSet.Builder<String> privateBuilder = ImmutableSet.builderWithExpectedSize(count);
         for (int i = 0; i < count; i++) {
             privateBuilder.add(nameSerializer.read(decoder));
         }
 
-        ImmutableSet.Builder<String> accessibleBuilder = ImmutableSet.builder();
         count = decoder.readSmallInt();
+        ImmutableSet.Builder<String> accessibleBuilder = ImmutableSet.builderWithExpectedSize(count);
         for (int i = 0; i < count; i++) {
             accessibleBuilder.add(nameSerializer.read(decoder));
         }
 
-        ImmutableSet.Builder<GeneratedResource> resourceBuilder = ImmutableSet.builder();
         count = decoder.readSmallInt();
+        ImmutableSet.Builder<GeneratedResource> resourceBuilder = ImmutableSet.builderWithExpectedSize(count);
         for (int i = 0; i < count; i++) {
             GeneratedResource.Location location = GeneratedResource.Location.values()[decoder.readSmallInt()];
             String path = nameSerializer.read(decoder);
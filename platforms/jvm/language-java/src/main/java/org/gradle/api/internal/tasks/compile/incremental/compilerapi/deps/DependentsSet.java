@@ -61,14 +61,27 @@ public static DependentsSet merge(Collection<DependentsSet> sets) {
         int privateCount = 0;
         int accessibleCount = 0;
         int resourceCount = 0;
+        DependentsSet singleNonEmptySet = null;
+        int nonEmptyCount = 0;
         for (DependentsSet set : sets) {
             if (set.isDependencyToAll()) {
                 return set;
             }
+            if (!set.isEmpty()) {
+                singleNonEmptySet = set;
+                nonEmptyCount++;
+            }
             privateCount += set.getPrivateDependentClasses().size();
             accessibleCount += set.getAccessibleDependentClasses().size();
             resourceCount += set.getDependentResources().size();
         }
+        // Most merges combine a single non-empty set with empty ones, which doesn't require copying anything
+        if (nonEmptyCount == 0) {
+            return DependentsSet.empty();
+        }
+        if (nonEmptyCount == 1) {
+            return singleNonEmptySet;
+        }
 
         ImmutableSet.Builder<String> privateDependentClasses = ImmutableSet.builderWithExpectedSize(privateCount);
         ImmutableSet.Builder<String> accessibleDependentClasses = ImmutableSet.builderWithExpectedSize(accessibleCount);
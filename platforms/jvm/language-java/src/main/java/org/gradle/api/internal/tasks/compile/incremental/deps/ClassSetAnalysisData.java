@@ -254,8 +254,8 @@ public DependentsSet getDependents(String className) {
     private DependentsSet getDependentsOfPackage(String packageName) {
         Set<String> typesInPackage = new HashSet<>();
         for (String type : classHashes.keySet()) {
-            int i = type.lastIndexOf(".");
-            if (i < 0 && packageName == null || i > 0 && type.substring(0, i).equals(packageName)) {
+            int i = type.lastIndexOf('.');
+            if (packageName == null ? i < 0 : i == packageName.length() && type.startsWith(packageName)) {
                 typesInPackage.add(type);
             }
         }
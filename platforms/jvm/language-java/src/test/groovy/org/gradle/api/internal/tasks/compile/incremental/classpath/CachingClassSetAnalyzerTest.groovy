@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.tasks.compile.incremental.classpath
+
+import org.gradle.api.internal.tasks.compile.incremental.deps.ClassSetAnalysisData
+import org.gradle.cache.ManualEvictionInMemoryCache
+import org.gradle.internal.hash.HashCode
+import org.gradle.internal.hash.TestHashCodes
+import org.gradle.internal.snapshot.FileSystemLocationSnapshot
+import org.gradle.internal.vfs.FileSystemAccess
+import spock.lang.Specification
+
+class CachingClassSetAnalyzerTest extends Specification {
+    def delegate = Mock(ClassSetAnalyzer)
+    def fileSystemAccess = Stub(FileSystemAccess)
+    def cache = new ManualEvictionInMemoryCache<HashCode, ClassSetAnalysisData>()
+    def analyzer = new CachingClassSetAnalyzer(delegate, fileSystemAccess, cache)
+
+    def entry = new File("lib.jar")
+    def analysis = new ClassSetAnalysisData()
+
+    def setup() {
+        fileSystemAccess.read(entry.absolutePath) >> Stub(FileSystemLocationSnapshot) {
+            getHash() >> TestHashCodes.hashCodeFrom(1)
+        }
+    }
+
+    def "reuses analysis of classpath entry with the same content"() {
+        when:
+        def first = analyzer.analyzeClasspathEntry(entry)
+        def second = analyzer.analyzeClasspathEntry(entry)
+
+        then:
+        1 * delegate.analyzeClasspathEntry(entry) >> analysis
+        first.is(analysis)
+        second.is(analysis)
+    }
+
+    def "analyzes classpath entry only once when requested concurrently"() {
+        when:
+        def results = Collections.synchronizedList([])
+        def threads = (1..4).collect {
+            Thread.start {
+                results << analyzer.analyzeClasspathEntry(entry)
+            }
+        }
+        threads*.join()
+
+        then:
+        1 * delegate.analyzeClasspathEntry(entry) >> {
+            Thread.sleep(100)
+            analysis
+        }
+        results.size() == 4
+        results.every { it.is(analysis) }
+    }
+}
@@ -247,6 +247,16 @@ class ClassSetAnalysisTest extends Specification {
         deps.getAllDependentClasses() == ["E", "B", "C"] as Set
     }
 
+    def "package-info affects all classes in its package"() {
+        def a = analysis([
+            "org.A": empty(), "org.B": empty(), "org.sub.C": empty(), "orgx.D": empty(), "E": empty()
+        ])
+
+        expect:
+        a.findTransitiveDependents(["org.package-info"], [:]).getAllDependentClasses() == ["org.A", "org.B"] as Set
+        a.findTransitiveDependents(["package-info"], [:]).getAllDependentClasses() == ["E"] as Set
+    }
+
     def "some classes may depend on any change"() {
         def a = analysis([
             "A": dependentClasses([] as Set, ["B"] as Set), "B": empty(), "DependsOnAny" : dependentClasses([] as Set, ["C"] as Set)
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state;
+
+import org.gradle.internal.file.FileMetadata.AccessType;
+import org.gradle.internal.file.impl.DefaultFileMetadata;
+import org.gradle.internal.fingerprint.hashing.RegularFileSnapshotContext;
+import org.gradle.internal.hash.Hashing;
+import org.gradle.internal.snapshot.RegularFileSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Fingerprints a Spring Boot style fat jar, which bundles its dependencies as nested jars.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ZipHasherBenchmark {
+
+    @Param({"1", "50", "200"})
+    int nestedJarCount;
+
+    @Param({"200"})
+    int classesPerJar;
+
+    @Param({"false", "true"})
+    boolean concurrent;
+
+    File fatJar;
+    ExecutorService executor;
+    RegularFileSnapshotContext fatJarContext;
+    ZipHasher zipHasher;
+
+    @Setup
+    public void setup() throws IOException {
+        fatJar = Files.createTempFile("fat", ".jar").toFile();
+        Random random = new Random(1234L);
+        try (JarOutputStream output = new JarOutputStream(new FileOutputStream(fatJar))) {
+            for (int jar = 0; jar < nestedJarCount; jar++) {
+                output.putNextEntry(new JarEntry("BOOT-INF/lib/lib-" + jar + ".jar"));
+                output.write(createJar(jar, random));
+            }
+        }
+        fatJarContext = new DefaultRegularFileSnapshotContext(
+            () -> new String[]{fatJar.getName()},
+            new RegularFileSnapshot(fatJar.getAbsolutePath(), fatJar.getName(), Hashing.signature(fatJar.getName()), DefaultFileMetadata.file(0, fatJar.length(), AccessType.DIRECT))
+        );
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        zipHasher = new ZipHasher(new RuntimeClasspathResourceHasher(), concurrent ? executor : null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        fatJar.delete();
+    }
+
+    @Benchmark
+    public void fingerprintFatJar(Blackhole blackhole) {
+        blackhole.consume(zipHasher.hash(fatJarContext));
+    }
+
+    private byte[] createJar(int jar, Random random) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JarOutputStream output = new JarOutputStream(bytes)) {
+            for (int clazz = 0; clazz < classesPerJar; clazz++) {
+                output.putNextEntry(new JarEntry("org/lib" + jar + "/Class" + clazz + ".class"));
+                byte[] content = new byte[2048];
+                random.nextBytes(content);
+                output.write(content);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -41,10 +41,14 @@
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public class ZipHasher implements RegularFileSnapshotContextHasher, ConfigurableNormalizer {
 
@@ -59,19 +63,34 @@ public static boolean isZipFile(final String name) {
     private final ResourceHasher resourceHasher;
     private final ZipHasher fallbackZipHasher;
     private final HashingExceptionReporter hashingExceptionReporter;
+    @Nullable
+    private final Executor nestedZipExecutor;
 
     public ZipHasher(ResourceHasher resourceHasher) {
+        this(resourceHasher, null);
+    }
+
+    /**
+     * Creates a hasher that fingerprints the zips nested directly in a zip concurrently on the given executor.
+     */
+    public ZipHasher(ResourceHasher resourceHasher, @Nullable Executor nestedZipExecutor) {
         this(
             resourceHasher,
             null,
-            (s, e) -> LOGGER.debug("Malformed archive '{}'. Falling back to full content hash instead of entry hashing.", s.getName(), e)
+            (s, e) -> LOGGER.debug("Malformed archive '{}'. Falling back to full content hash instead of entry hashing.", s.getName(), e),
+            nestedZipExecutor
         );
     }
 
     public ZipHasher(ResourceHasher resourceHasher, @Nullable ZipHasher fallbackZipHasher, HashingExceptionReporter hashingExceptionReporter) {
+        this(resourceHasher, fallbackZipHasher, hashingExceptionReporter, null);
+    }
+
+    public ZipHasher(ResourceHasher resourceHasher, @Nullable ZipHasher fallbackZipHasher, HashingExceptionReporter hashingExceptionReporter, @Nullable Executor nestedZipExecutor) {
         this.resourceHasher = resourceHasher;
         this.fallbackZipHasher = fallbackZipHasher;
         this.hashingExceptionReporter = hashingExceptionReporter;
+        this.nestedZipExecutor = nestedZipExecutor;
     }
 
     @Nullable
@@ -108,12 +127,69 @@ private HashCode hashZipContents(RegularFileSnapshot zipFileSnapshot) {
     private List<FileSystemLocationFingerprint> fingerprintZipEntries(String zipFile) throws IOException {
         try (ZipInput input = FileZipInput.create(new File(zipFile))) {
             List<FileSystemLocationFingerprint> fingerprints = new ArrayList<>();
-            fingerprintZipEntries("", zipFile, fingerprints, input);
+            List<ZipEntryContext> nestedZips = new ArrayList<>();
+            fingerprintZipEntries("", zipFile, fingerprints, input, nestedZips);
+            fingerprintNestedZips(zipFile, fingerprints, nestedZips);
             return fingerprints;
         }
     }
 
-    private void fingerprintZipEntries(String parentName, String rootParentName, List<FileSystemLocationFingerprint> fingerprints, ZipInput input) throws IOException {
+    /**
+     * Fingerprints the zips nested directly in the root zip. Each of them is read from the root zip independently,
+     * so that fat jars bundling many libraries have their libraries fingerprinted concurrently when there is an executor.
+     * The resulting fingerprints are sorted before being hashed, so the order in which they are collected does not matter.
+     */
+    private void fingerprintNestedZips(String rootParentName, List<FileSystemLocationFingerprint> fingerprints, List<ZipEntryContext> nestedZips) throws IOException {
+        if (nestedZipExecutor == null || nestedZips.size() < 2) {
+            for (ZipEntryContext nestedZip : nestedZips) {
+                fingerprintNestedZip(rootParentName, fingerprints, nestedZip);
+            }
+            return;
+        }
+        List<CompletableFuture<List<FileSystemLocationFingerprint>>> results = new ArrayList<>(nestedZips.size());
+        for (ZipEntryContext nestedZip : nestedZips) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                List<FileSystemLocationFingerprint> nestedFingerprints = new ArrayList<>();
+                try {
+                    fingerprintNestedZip(rootParentName, nestedFingerprints, nestedZip);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return nestedFingerprints;
+            }, nestedZipExecutor));
+        }
+        try {
+            // Wait for all nested zips, so the root zip is not closed while some of them are still being read
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+        for (CompletableFuture<List<FileSystemLocationFingerprint>> result : results) {
+            fingerprints.addAll(result.join());
+        }
+    }
+
+    private void fingerprintNestedZip(String rootParentName, List<FileSystemLocationFingerprint> fingerprints, ZipEntryContext nestedZip) throws IOException {
+        nestedZip.getEntry().withInputStream(inputStream -> {
+            fingerprintZipEntries(nestedZip.getFullName(), rootParentName, fingerprints, new StreamZipInput(inputStream), null);
+            return null;
+        });
+    }
+
+    private void fingerprintZipEntries(
+        String parentName,
+        String rootParentName,
+        List<FileSystemLocationFingerprint> fingerprints,
+        ZipInput input,
+        @Nullable List<ZipEntryContext> deferredNestedZips
+    ) throws IOException {
         fingerprints.add(newZipMarker(parentName));
         for (ZipEntry zipEntry : input) {
             if (zipEntry.isDirectory()) {
@@ -122,10 +198,12 @@ private void fingerprintZipEntries(String parentName, String rootParentName, Lis
             String fullName = parentName.isEmpty() ? zipEntry.getName() : parentName + "/" + zipEntry.getName();
             ZipEntryContext zipEntryContext = new DefaultZipEntryContext(zipEntry, fullName, rootParentName);
             if (isZipFile(zipEntry.getName())) {
-                zipEntryContext.getEntry().withInputStream(inputStream -> {
-                    fingerprintZipEntries(fullName, rootParentName, fingerprints, new StreamZipInput(inputStream));
-                    return null;
-                });
+                // Entries that can be reopened are backed by random access to the zip, so they can still be read once the iteration is done
+                if (deferredNestedZips != null && zipEntry.canReopen()) {
+                    deferredNestedZips.add(zipEntryContext);
+                } else {
+                    fingerprintNestedZip(rootParentName, fingerprints, zipEntryContext);
+                }
             } else {
                 fingerprintZipEntry(zipEntryContext, fingerprints);
             }
@@ -28,6 +28,8 @@ import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
 import org.junit.Rule
 import spock.lang.Specification
 
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
 import java.util.jar.Attributes
 import java.util.jar.JarEntry
 import java.util.jar.JarOutputStream
@@ -91,6 +93,95 @@ class ZipHasherTest extends Specification {
         hash1 != hash2
     }
 
+    def "hash of jar with several nested jars does not depend on the order of the nested jars"() {
+        given:
+        def libs = (1..5).collect { index ->
+            def libContent = tmpDir.createDir("lib$index")
+            libContent.file("org/lib$index/Foo.class") << "Foo $index"
+            def lib = tmpDir.file("libs/lib${index}.jar")
+            libContent.zipTo(lib)
+            lib
+        }
+        def fatJar = tmpDir.file("fat.jar")
+        createJarWithEntries(fatJar, libs)
+        def reorderedFatJar = tmpDir.file("reordered-fat.jar")
+        createJarWithEntries(reorderedFatJar, libs.reverse())
+
+        when:
+        def hash = zipHasher.hash(snapshotContext(fatJar))
+        def reorderedHash = zipHasher.hash(snapshotContext(reorderedFatJar))
+
+        then:
+        hash == reorderedHash
+
+        when:
+        libs[2].delete()
+        def changedLibContent = tmpDir.createDir("changed-lib")
+        changedLibContent.file("org/lib3/Foo.class") << "Changed"
+        changedLibContent.zipTo(libs[2])
+        createJarWithEntries(fatJar, libs)
+
+        then:
+        zipHasher.hash(snapshotContext(fatJar)) != hash
+    }
+
+    def "hash of jar with several nested jars is the same when nested jars are fingerprinted concurrently"() {
+        given:
+        def libs = (1..5).collect { index ->
+            def libContent = tmpDir.createDir("lib$index")
+            libContent.file("org/lib$index/Foo.class") << "Foo $index"
+            def lib = tmpDir.file("libs/lib${index}.jar")
+            libContent.zipTo(lib)
+            lib
+        }
+        def fatJar = tmpDir.file("fat.jar")
+        createJarWithEntries(fatJar, libs)
+        def executor = Executors.newFixedThreadPool(4)
+        def concurrentZipHasher = new ZipHasher(resourceHasher(ResourceEntryFilter.FILTER_NOTHING, ResourceEntryFilter.FILTER_NOTHING), executor)
+
+        expect:
+        concurrentZipHasher.hash(snapshotContext(fatJar)) == zipHasher.hash(snapshotContext(fatJar))
+
+        cleanup:
+        executor?.shutdownNow()
+    }
+
+    def "falls back to the file hash when a nested jar cannot be read, whether nested jars are fingerprinted concurrently or not"() {
+        given:
+        def libs = (1..5).collect { index ->
+            def libContent = tmpDir.createDir("lib$index")
+            def content = new byte[4096]
+            new Random(index).nextBytes(content)
+            libContent.file("org/lib$index/Foo.class").bytes = content
+            def lib = tmpDir.file("libs/lib${index}.jar")
+            libContent.zipTo(lib)
+            lib
+        }
+        // Truncate one of the nested jars in the middle of its entry data
+        def brokenLib = libs[2].bytes
+        libs[2].bytes = Arrays.copyOf(brokenLib, brokenLib.length.intdiv(2) as int)
+        def fatJar = tmpDir.file("fat.jar")
+        createJarWithEntries(fatJar, libs)
+        def executor = Executors.newFixedThreadPool(4)
+        def reportedFailures = new AtomicInteger()
+        def reporter = { snapshot, e -> reportedFailures.incrementAndGet() } as ZipHasher.HashingExceptionReporter
+        def resourceHasher = resourceHasher(ResourceEntryFilter.FILTER_NOTHING, ResourceEntryFilter.FILTER_NOTHING)
+        def serialZipHasher = new ZipHasher(resourceHasher, null, reporter, null)
+        def concurrentZipHasher = new ZipHasher(resourceHasher, null, reporter, executor)
+
+        when:
+        def serialHash = serialZipHasher.hash(snapshotContext(fatJar))
+        def concurrentHash = concurrentZipHasher.hash(snapshotContext(fatJar))
+
+        then:
+        serialHash == TestHashCodes.hashCodeFrom(0)
+        concurrentHash == serialHash
+        reportedFailures.get() == 2
+
+        cleanup:
+        executor?.shutdownNow()
+    }
+
     def "changing manifest attributes changes the hashcode"() {
         given:
         def jarfile = tmpDir.file("test.jar")
@@ -175,6 +266,15 @@ class ZipHasherTest extends Specification {
         jarOutput.close()
     }
 
+    def createJarWithEntries(TestFile jarfile, List<TestFile> files) {
+        def jarOutput = new JarOutputStream(jarfile.newOutputStream())
+        files.each { file ->
+            jarOutput.putNextEntry(new JarEntry("BOOT-INF/lib/${file.name}"))
+            jarOutput.write(file.bytes)
+        }
+        jarOutput.close()
+    }
+
     private static RegularFileSnapshotContext snapshotContext(TestFile file) {
         return new DefaultRegularFileSnapshotContext({ }, new RegularFileSnapshot(file.path, file.name, TestHashCodes.hashCodeFrom(0), DefaultFileMetadata.file(0, 0, AccessType.DIRECT)))
     }
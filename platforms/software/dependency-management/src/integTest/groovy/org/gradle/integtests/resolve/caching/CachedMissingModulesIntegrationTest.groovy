@@ -291,7 +291,7 @@ Required by:
         repo1MetaData.expectGet()
         repo1Module.pom.expectGet()
         repo1Module.artifact.expectGet()
-        repo2MetaData.expectHead()
+        repo2MetaData.expectConditionalGet()
 
         then:
         succeeds 'retrieve', '-PdepVersion=2.+'
@@ -349,7 +349,7 @@ Required by:
         when:
         server.resetExpectations()
         repo1Module.publish()
-        repo2MetaData.expectHead()
+        repo2MetaData.expectConditionalGet()
 
         then:
         succeeds 'retrieve'
@@ -361,7 +361,7 @@ Required by:
         repo1MetaData.expectGet()
         repo1Module.pom.expectGet()
         repo1Module.artifact.expectGet()
-        repo2MetaData.expectHead()
+        repo2MetaData.expectConditionalGet()
         repo2Module.pom.expectHead()
 
         then:
@@ -509,9 +509,9 @@ Required by:
 
         when:
         server.resetExpectations()
-        repo1Module.rootMetaData.expectHead()
+        repo1Module.rootMetaData.expectConditionalGet()
         repo1Module.pom.expectGetMissing()
-        repo2Module.rootMetaData.expectHead()
+        repo2Module.rootMetaData.expectConditionalGet()
         repo2Module.pom.expectGetMissing()
 
         then:
@@ -481,4 +481,67 @@ Searched in the following locations:
          }
          """
     }
+
+    def "revalidates version listing with a conditional request"() {
+        given:
+        buildFile << """
+repositories {
+    maven {
+        url "${mavenHttpRepo.uri}"
+    }
+}
+
+configurations {
+    compile {
+        resolutionStrategy.cacheDynamicVersionsFor 0, 'seconds'
+    }
+}
+
+dependencies {
+    compile group: "org.test", name: "projectA", version: "1.+"
+}
+
+task retrieve(type: Sync) {
+    from configurations.compile
+    into 'libs'
+}
+"""
+        def projectA = mavenHttpRepo.module("org.test", "projectA", "1.0").publish()
+        def metaData = mavenHttpRepo.getModuleMetaData("org.test", "projectA")
+
+        when:
+        metaData.expectGet()
+        projectA.pom.expectGet()
+        projectA.artifact.expectGet()
+
+        and:
+        run 'retrieve'
+
+        then:
+        file('libs').assertHasDescendants('projectA-1.0.jar')
+
+        when:
+        server.resetExpectations()
+        metaData.expectConditionalGet()
+
+        and:
+        run 'retrieve'
+
+        then:
+        file('libs').assertHasDescendants('projectA-1.0.jar')
+
+        when:
+        def projectA11 = mavenHttpRepo.module("org.test", "projectA", "1.1").publish()
+        metaData.file.setLastModified(metaData.file.lastModified() + 2000)
+        server.resetExpectations()
+        metaData.expectConditionalGet()
+        projectA11.pom.expectGet()
+        projectA11.artifact.expectGet()
+
+        and:
+        run 'retrieve'
+
+        then:
+        file('libs').assertHasDescendants('projectA-1.1.jar')
+    }
 }
@@ -123,8 +123,7 @@ if (project.hasProperty('nocache')) {
 
         and:
         server.resetExpectations()
-        snapshotModule.metaData.expectHead()
-        snapshotModule.metaData.expectGet()
+        snapshotModule.metaData.expectConditionalGet()
         snapshotModule.pom.expectHead()
         snapshotModule.pom.sha1.expectGet()
         snapshotModule.pom.expectGet()
@@ -177,8 +176,7 @@ if (project.hasProperty('nocache')) {
 
         and:
         server.resetExpectations()
-        snapshotModule.metaData.expectHead()
-        snapshotModule.metaData.expectGet()
+        snapshotModule.metaData.expectConditionalGet()
         snapshotModule.pom.expectHead()
         snapshotModule.pom.sha1.expectGet()
         snapshotModule.pom.expectGet()
@@ -660,7 +660,7 @@ task retrieve(type: Sync) {
         file('libs').assertHasDescendants('projectA-1.0-SNAPSHOT.jar', 'projectB-1.0.jar')
 
         when: "Resolve without cache"
-        projectA.metaData.expectHead()
+        projectA.metaData.expectConditionalGet()
         projectA.pom.expectHead()
         projectA.pom.sha1.expectGet()
         projectA.pom.expectGet()
@@ -1208,9 +1208,10 @@ abstract class PomRule implements ComponentMetadataRule {
 
     private expectChangedModuleServed(MavenHttpModule module) {
         if (module.uniqueSnapshots) {
-            module.metaData.expectHead()
+            module.metaData.expectConditionalGet()
+        } else {
+            module.metaData.expectGet()
         }
-        module.metaData.expectGet()
         module.pom.expectHead()
         module.pom.sha1.expectGet()
         module.pom.expectGet()
@@ -1226,7 +1227,7 @@ abstract class PomRule implements ComponentMetadataRule {
 
     private expectChangedArtifactServed(MavenHttpModule module) {
         if (module.uniqueSnapshots) {
-            module.metaData.expectHead()
+            module.metaData.expectConditionalGet()
         } else {
             module.metaData.expectGet()
         }
@@ -1242,7 +1243,7 @@ abstract class PomRule implements ComponentMetadataRule {
 
     private expectChangedProbe(MavenHttpModule module) {
         if (module.uniqueSnapshots) {
-            module.metaData.expectHead()
+            module.metaData.expectConditionalGet()
         } else {
             module.metaData.expectGet()
         }
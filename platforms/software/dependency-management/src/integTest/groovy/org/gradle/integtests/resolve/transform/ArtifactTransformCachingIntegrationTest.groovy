@@ -1849,7 +1849,7 @@ resultsFile:
         server.resetExpectations()
         m1.pom.expectHead()
         m1.artifact.expectHead()
-        m2.metaData.expectHead()
+        m2.metaData.expectConditionalGet()
         // TODO - these should not be required for unique versions
         m2.pom.expectHead()
         m2.artifact.expectHead()
@@ -1871,7 +1871,7 @@ resultsFile:
         m1.artifact.expectHead()
         m1.artifact.sha1.expectGet()
         m1.artifact.expectGet()
-        m2.metaData.expectHead()
+        m2.metaData.expectConditionalGet()
         // TODO - these should not be required for unique versions
         m2.pom.expectHead()
         m2.artifact.expectHead()
@@ -1890,7 +1890,7 @@ resultsFile:
         server.resetExpectations()
         m1.pom.expectHead()
         m1.artifact.expectHead()
-        m2.metaData.expectHead()
+        m2.metaData.expectConditionalGet()
         // TODO - these should not be required for unique versions
         m2.pom.expectHead()
         m2.artifact.expectHead()
@@ -1908,8 +1908,7 @@ resultsFile:
         m1.pom.expectHead()
         m1.artifact.expectHead()
         m2.publishWithChangedContent()
-        m2.metaData.expectHead()
-        m2.metaData.expectGet()
+        m2.metaData.expectConditionalGet()
         m2.pom.expectHead()
         m2.pom.sha1.expectGet()
         m2.pom.expectGet()
@@ -38,6 +38,7 @@
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy.VersionComparator;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy.VersionParser;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy.VersionSelectorScheme;
+import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.CrossBuildVerifiedArtifactCache;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.DependencyVerificationOverride;
 import org.gradle.api.internal.artifacts.ivyservice.modulecache.FileStoreAndIndexProvider;
 import org.gradle.api.internal.artifacts.ivyservice.modulecache.ModuleComponentResolveMetadataSerializer;
@@ -63,6 +64,7 @@
 import org.gradle.api.internal.artifacts.repositories.resolver.ExternalResourceAccessor;
 import org.gradle.api.internal.artifacts.repositories.transport.RepositoryTransport;
 import org.gradle.api.internal.artifacts.repositories.transport.RepositoryTransportFactory;
+import org.gradle.api.internal.artifacts.transform.ArchiveExtractionExecutor;
 import org.gradle.api.internal.artifacts.transform.TransformStepNodeDependencyResolver;
 import org.gradle.api.internal.artifacts.verification.signatures.DefaultSignatureVerificationServiceFactory;
 import org.gradle.api.internal.artifacts.verification.signatures.SignatureVerificationServiceFactory;
@@ -94,6 +96,7 @@
 import org.gradle.internal.build.BuildState;
 import org.gradle.internal.build.BuildStateRegistry;
 import org.gradle.internal.buildoption.FeatureFlags;
+import org.gradle.internal.buildoption.InternalOptions;
 import org.gradle.internal.classpath.ClasspathBuilder;
 import org.gradle.internal.classpath.ClasspathWalker;
 import org.gradle.internal.code.UserCodeApplicationContext;
@@ -179,6 +182,8 @@ void configure(ServiceRegistration registration) {
         registration.add(ResolvedArtifactSetResolver.class);
         registration.add(DependencyGraphBuilder.class);
         registration.add(ExternalModuleComponentResolverFactory.class);
+        registration.add(CrossBuildVerifiedArtifactCache.Factory.class);
+        registration.add(ArchiveExtractionExecutor.class);
     }
 
     DependencyResolutionManagementInternal createSharedDependencyResolutionServices(
@@ -316,7 +321,8 @@ RepositoryTransportFactory createRepositoryTransportFactory(
         ProducerGuard<ExternalResourceName> producerGuard,
         FileResourceRepository fileResourceRepository,
         ChecksumService checksumService,
-        StartParameterResolutionOverride startParameterResolutionOverride
+        StartParameterResolutionOverride startParameterResolutionOverride,
+        InternalOptions internalOptions
     ) {
         return artifactCachesProvider.withWritableCache((md, manager) -> new RepositoryTransportFactory(
             resourceConnectorFactories,
@@ -328,7 +334,8 @@ RepositoryTransportFactory createRepositoryTransportFactory(
             startParameterResolutionOverride,
             producerGuard,
             fileResourceRepository,
-            checksumService
+            checksumService,
+            internalOptions
         ));
     }
 
@@ -337,12 +344,13 @@ DependencyVerificationOverride createDependencyVerificationOverride(
         BuildOperationExecutor buildOperationExecutor,
         ChecksumService checksumService,
         SignatureVerificationServiceFactory signatureVerificationServiceFactory,
+        CrossBuildVerifiedArtifactCache.Factory verifiedArtifactCacheFactory,
         DocumentationRegistry documentationRegistry,
         ListenerManager listenerManager,
         BuildCommencedTimeProvider timeProvider,
         ServiceRegistry serviceRegistry
     ) {
-        DependencyVerificationOverride override = startParameterResolutionOverride.dependencyVerificationOverride(buildOperationExecutor, checksumService, signatureVerificationServiceFactory, documentationRegistry, timeProvider, () -> serviceRegistry.get(GradleProperties.class), listenerManager.getBroadcaster(FileResourceListener.class));
+        DependencyVerificationOverride override = startParameterResolutionOverride.dependencyVerificationOverride(buildOperationExecutor, checksumService, signatureVerificationServiceFactory, verifiedArtifactCacheFactory, documentationRegistry, timeProvider, () -> serviceRegistry.get(GradleProperties.class), listenerManager.getBroadcaster(FileResourceListener.class));
         registerBuildFinishedHooks(listenerManager, override);
         return override;
     }
@@ -24,6 +24,7 @@
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.ConnectionFailureRepositoryDisabler;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.ModuleDescriptorHashCodec;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.ModuleDescriptorHashModuleSource;
+import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.RepositoryDownloadScheduler;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.StartParameterResolutionOverride;
 import org.gradle.api.internal.artifacts.ivyservice.modulecache.AbstractModuleMetadataCache;
 import org.gradle.api.internal.artifacts.ivyservice.modulecache.FileStoreAndIndexProvider;
@@ -103,6 +104,7 @@ void configure(ServiceRegistration registration) {
         registration.add(ThisBuildOnlyComponentDetailsSerializer.class);
         registration.add(ThisBuildOnlySelectedVariantSerializer .class);
         registration.add(ConnectionFailureRepositoryDisabler.class);
+        registration.add(RepositoryDownloadScheduler.class);
         registration.add(DefaultProjectLocalComponentProvider.class);
     }
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve;
+
+import org.gradle.internal.component.model.ComponentArtifactMetadata;
+import org.gradle.internal.component.model.ModuleSources;
+import org.gradle.internal.resolve.result.BuildableArtifactFileResolveResult;
+
+import java.io.File;
+
+/**
+ * A ModuleComponentRepository that runs remote artifact downloads through the {@link RepositoryDownloadScheduler},
+ * so that the connection budget of the repository is honoured across all concurrently running resolutions.
+ *
+ * Concurrent requests for the same artifact are already deduplicated upstream by the resolved artifact cache,
+ * so only actual downloads reach this repository.
+ */
+public class DownloadSchedulingModuleComponentRepository<T> extends BaseModuleComponentRepository<T> {
+
+    public DownloadSchedulingModuleComponentRepository(ModuleComponentRepository<T> delegate, RepositoryDownloadScheduler scheduler) {
+        super(delegate, delegate.getLocalAccess(), new SchedulingRemoteAccess<>(delegate.getRemoteAccess(), scheduler, delegate.getId(), delegate.getName()));
+    }
+
+    private static class SchedulingRemoteAccess<T> extends BaseModuleComponentRepositoryAccess<T> {
+        private final RepositoryDownloadScheduler scheduler;
+        private final String repositoryId;
+        private final String repositoryName;
+
+        SchedulingRemoteAccess(ModuleComponentRepositoryAccess<T> delegate, RepositoryDownloadScheduler scheduler, String repositoryId, String repositoryName) {
+            super(delegate);
+            this.scheduler = scheduler;
+            this.repositoryId = repositoryId;
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public String toString() {
+            return "download scheduling > " + getDelegate().toString();
+        }
+
+        @Override
+        public void resolveArtifact(ComponentArtifactMetadata artifact, ModuleSources moduleSources, BuildableArtifactFileResolveResult result) {
+            RepositoryDownloadScheduler.DownloadPermit permit = scheduler.acquire(repositoryId, repositoryName);
+            long downloadedBytes = 0;
+            try {
+                super.resolveArtifact(artifact, moduleSources, result);
+                if (result.hasResult() && result.isSuccessful()) {
+                    File file = result.getResult();
+                    downloadedBytes = file.length();
+                }
+            } finally {
+                permit.release(downloadedBytes);
+            }
+        }
+    }
+}
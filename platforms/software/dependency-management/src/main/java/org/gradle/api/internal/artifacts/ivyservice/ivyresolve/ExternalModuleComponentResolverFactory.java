@@ -77,6 +77,7 @@ public class ExternalModuleComponentResolverFactory {
     private final VersionComparator versionComparator;
     private final ImmutableModuleIdentifierFactory moduleIdentifierFactory;
     private final RepositoryDisabler repositoryBlacklister;
+    private final RepositoryDownloadScheduler downloadScheduler;
     private final VersionParser versionParser;
     private final ModuleComponentGraphResolveStateFactory moduleResolveStateFactory;
     private final CalculatedValueFactory calculatedValueFactory;
@@ -94,6 +95,7 @@ public ExternalModuleComponentResolverFactory(
         VersionComparator versionComparator,
         ImmutableModuleIdentifierFactory moduleIdentifierFactory,
         RepositoryDisabler repositoryBlacklister,
+        RepositoryDownloadScheduler downloadScheduler,
         VersionParser versionParser,
         ListenerManager listenerManager,
         ModuleComponentGraphResolveStateFactory moduleResolveStateFactory,
@@ -107,6 +109,7 @@ public ExternalModuleComponentResolverFactory(
         this.versionComparator = versionComparator;
         this.moduleIdentifierFactory = moduleIdentifierFactory;
         this.repositoryBlacklister = repositoryBlacklister;
+        this.downloadScheduler = downloadScheduler;
         this.versionParser = versionParser;
         this.dependencyVerificationOverride = dependencyVerificationOverride;
         this.listener = listenerManager.getBroadcaster(ChangingValueDependencyResolutionListener.class);
@@ -150,6 +153,7 @@ public ComponentResolvers createResolvers(
             } else {
                 ModuleComponentRepository<ModuleComponentResolveMetadata> overrideRepository = startParameterResolutionOverride.overrideModuleVersionRepository(baseRepository);
                 moduleComponentRepository = new CachingModuleComponentRepository(overrideRepository, cacheProvider.getPersistentCaches(), moduleResolveStateFactory, cachePolicy, timeProvider, componentMetadataProcessor, listener);
+                moduleComponentRepository = new DownloadSchedulingModuleComponentRepository<>(moduleComponentRepository, downloadScheduler);
             }
             moduleComponentRepository = cacheProvider.getResolvedArtifactCaches().provideResolvedArtifactCache(moduleComponentRepository, dependencyVerificationEnabled);
 
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.gradle.api.BuildCancelledException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.internal.buildoption.IntegerInternalOption;
+import org.gradle.internal.buildoption.InternalOptions;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+import org.gradle.internal.work.WorkerLeaseService;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules artifact downloads from remote repositories across all resolutions happening in the build tree.
+ *
+ * Each repository gets a connection budget, limiting the number of artifacts that are downloaded from it concurrently.
+ * Downloads beyond the budget wait for a permit in FIFO order, without holding a worker lease. The number of downloaded artifacts, bytes and the time spent
+ * are tracked per repository and reported when the build tree finishes.
+ */
+@ServiceScope(Scope.BuildTree.class)
+public class RepositoryDownloadScheduler implements Stoppable {
+    private static final Logger LOGGER = Logging.getLogger(RepositoryDownloadScheduler.class);
+
+    /**
+     * The maximum number of concurrent downloads from a single repository, matching the default size of the HTTP connection pool per route.
+     * A value of zero or less disables the limit.
+     */
+    private static final IntegerInternalOption MAX_CONCURRENT_DOWNLOADS = new IntegerInternalOption("org.gradle.internal.repository.max.concurrent.downloads", 20);
+
+    private final int maxConcurrentDownloadsPerRepository;
+    private final WorkerLeaseService workerLeaseService;
+    private final Map<String, RepositoryBudget> budgets = new ConcurrentHashMap<>();
+
+    @Inject
+    public RepositoryDownloadScheduler(InternalOptions options, WorkerLeaseService workerLeaseService) {
+        this(options.getOption(MAX_CONCURRENT_DOWNLOADS).get(), workerLeaseService);
+    }
+
+    @VisibleForTesting
+    RepositoryDownloadScheduler(int maxConcurrentDownloadsPerRepository, WorkerLeaseService workerLeaseService) {
+        this.maxConcurrentDownloadsPerRepository = maxConcurrentDownloadsPerRepository;
+        this.workerLeaseService = workerLeaseService;
+    }
+
+    /**
+     * Blocks until a download from the given repository is allowed to start, releasing the worker lease of the current thread while waiting.
+     * The returned permit must be released once the download has completed, successfully or not.
+     *
+     * @throws BuildCancelledException when the current thread is interrupted while waiting
+     */
+    public DownloadPermit acquire(String repositoryId, String repositoryName) {
+        RepositoryBudget budget = budgets.computeIfAbsent(repositoryId, id -> new RepositoryBudget(repositoryName, maxConcurrentDownloadsPerRepository));
+        if (!budget.tryAcquireConnection()) {
+            workerLeaseService.blocking(budget::awaitConnection);
+        }
+        return budget.startDownload();
+    }
+
+    @Nullable
+    @VisibleForTesting
+    DownloadStatistics getStatistics(String repositoryId) {
+        RepositoryBudget budget = budgets.get(repositoryId);
+        return budget == null ? null : budget.statistics();
+    }
+
+    @Override
+    public void stop() {
+        for (RepositoryBudget budget : budgets.values()) {
+            DownloadStatistics statistics = budget.statistics();
+            if (statistics.getDownloadCount() > 0) {
+                LOGGER.info("Downloaded {} artifacts ({} bytes) from repository '{}' in {} ms, at most {} concurrently.",
+                    statistics.getDownloadCount(), statistics.getDownloadedBytes(), budget.repositoryName, statistics.getDownloadTimeMillis(), statistics.getMaxConcurrentDownloads());
+            }
+        }
+        budgets.clear();
+    }
+
+    public interface DownloadPermit {
+        /**
+         * Releases the permit, recording the number of bytes that were downloaded while holding it.
+         */
+        void release(long downloadedBytes);
+    }
+
+    @VisibleForTesting
+    static class DownloadStatistics {
+        private final long downloadCount;
+        private final long downloadedBytes;
+        private final long downloadTimeMillis;
+        private final int maxConcurrentDownloads;
+
+        DownloadStatistics(long downloadCount, long downloadedBytes, long downloadTimeMillis, int maxConcurrentDownloads) {
+            this.downloadCount = downloadCount;
+            this.downloadedBytes = downloadedBytes;
+            this.downloadTimeMillis = downloadTimeMillis;
+            this.maxConcurrentDownloads = maxConcurrentDownloads;
+        }
+
+        long getDownloadCount() {
+            return downloadCount;
+        }
+
+        long getDownloadedBytes() {
+            return downloadedBytes;
+        }
+
+        long getDownloadTimeMillis() {
+            return downloadTimeMillis;
+        }
+
+        int getMaxConcurrentDownloads() {
+            return maxConcurrentDownloads;
+        }
+    }
+
+    private static class RepositoryBudget {
+        private final String repositoryName;
+        @Nullable
+        private final Semaphore connections;
+        private final AtomicInteger activeDownloads = new AtomicInteger();
+        private final AtomicInteger maxActiveDownloads = new AtomicInteger();
+        private final AtomicLong downloadCount = new AtomicLong();
+        private final AtomicLong downloadedBytes = new AtomicLong();
+        private final AtomicLong downloadTimeNanos = new AtomicLong();
+
+        RepositoryBudget(String repositoryName, int maxConcurrentDownloads) {
+            this.repositoryName = repositoryName;
+            this.connections = maxConcurrentDownloads > 0 ? new Semaphore(maxConcurrentDownloads, true) : null;
+        }
+
+        boolean tryAcquireConnection() {
+            // Unlike tryAcquire(), a timed acquire does not overtake the downloads that are already waiting
+            return connections == null || acquireConnection(0);
+        }
+
+        void awaitConnection() {
+            acquireConnection(Long.MAX_VALUE);
+        }
+
+        private boolean acquireConnection(long timeoutMillis) {
+            try {
+                return Objects.requireNonNull(connections).tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BuildCancelledException(String.format("Build cancelled while waiting to download from repository '%s'.", repositoryName), e);
+            }
+        }
+
+        DownloadPermit startDownload() {
+            int active = activeDownloads.incrementAndGet();
+            maxActiveDownloads.accumulateAndGet(active, Math::max);
+            long startTime = System.nanoTime();
+            return bytes -> {
+                downloadTimeNanos.addAndGet(System.nanoTime() - startTime);
+                downloadCount.incrementAndGet();
+                downloadedBytes.addAndGet(bytes);
+                activeDownloads.decrementAndGet();
+                if (connections != null) {
+                    connections.release();
+                }
+            };
+        }
+
+        DownloadStatistics statistics() {
+            return new DownloadStatistics(downloadCount.get(), downloadedBytes.get(), TimeUnit.NANOSECONDS.toMillis(downloadTimeNanos.get()), maxActiveDownloads.get());
+        }
+    }
+}
@@ -21,6 +21,7 @@
 import org.gradle.api.internal.DocumentationRegistry;
 import org.gradle.api.internal.artifacts.configurations.dynamicversion.CachePolicy;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.ChecksumAndSignatureVerificationOverride;
+import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.CrossBuildVerifiedArtifactCache;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.DependencyVerificationOverride;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.writer.WriteDependencyVerificationFile;
 import org.gradle.api.internal.artifacts.ivyservice.resolutionstrategy.ExternalResourceCachePolicy;
@@ -89,6 +90,7 @@ public DependencyVerificationOverride dependencyVerificationOverride(
         BuildOperationExecutor buildOperationExecutor,
         ChecksumService checksumService,
         SignatureVerificationServiceFactory signatureVerificationServiceFactory,
+        CrossBuildVerifiedArtifactCache.Factory verifiedArtifactCacheFactory,
         DocumentationRegistry documentationRegistry,
         BuildCommencedTimeProvider timeProvider,
         Factory<GradleProperties> gradlePropertiesFactory,
@@ -110,7 +112,7 @@ public DependencyVerificationOverride dependencyVerificationOverride(
 
         try {
             File sessionReportDir = computeReportDirectory(timeProvider);
-            return new ChecksumAndSignatureVerificationOverride(buildOperationExecutor, startParameter.getGradleUserHomeDir(), verificationsFile, checksumService, signatureVerificationServiceFactory, startParameter.getDependencyVerificationMode(), documentationRegistry, sessionReportDir, gradlePropertiesFactory, fileResourceListener);
+            return new ChecksumAndSignatureVerificationOverride(buildOperationExecutor, startParameter.getGradleUserHomeDir(), verificationsFile, checksumService, signatureVerificationServiceFactory, verifiedArtifactCacheFactory, startParameter.getDependencyVerificationMode(), documentationRegistry, sessionReportDir, gradlePropertiesFactory, fileResourceListener);
         } catch (Exception e) {
             return new FailureVerificationOverride(e);
         }
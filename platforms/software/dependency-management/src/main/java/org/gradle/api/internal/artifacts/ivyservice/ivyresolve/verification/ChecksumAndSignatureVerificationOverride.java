@@ -45,6 +45,7 @@
 import org.gradle.internal.component.external.model.ModuleComponentGraphResolveState;
 import org.gradle.internal.concurrent.Stoppable;
 import org.gradle.internal.hash.ChecksumService;
+import org.gradle.internal.hash.HashCode;
 import org.gradle.internal.logging.ConsoleRenderer;
 import org.gradle.internal.operations.BuildOperationContext;
 import org.gradle.internal.operations.BuildOperationDescriptor;
@@ -61,7 +62,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ChecksumAndSignatureVerificationOverride implements DependencyVerificationOverride, ArtifactVerificationOperation, Stoppable {
     private final static Logger LOGGER = Logging.getLogger(ChecksumAndSignatureVerificationOverride.class);
@@ -70,12 +74,16 @@ public class ChecksumAndSignatureVerificationOverride implements DependencyVerif
     private final BuildOperationExecutor buildOperationExecutor;
     private final ChecksumService checksumService;
     private final SignatureVerificationService signatureVerificationService;
+    private final CrossBuildVerifiedArtifactCache verifiedArtifactCache;
     private final DependencyVerificationMode verificationMode;
     private final FileResourceListener fileResourceListener;
     private final Set<VerificationQuery> verificationQueries = Sets.newConcurrentHashSet();
     private final Deque<VerificationEvent> verificationEvents = Queues.newArrayDeque();
     private final AtomicBoolean closed = new AtomicBoolean();
     private final DependencyVerificationReportWriter reportWriter;
+    private final AtomicInteger verifiedArtifacts = new AtomicInteger();
+    private final AtomicInteger verifiedFromCache = new AtomicInteger();
+    private final AtomicLong verificationTime = new AtomicLong();
 
     // Must hold lock on `failuresLock` to access `failures` or `hasFatalFailure`
     private final Object failuresLock = new Object();
@@ -88,6 +96,7 @@ public ChecksumAndSignatureVerificationOverride(
         File verificationsFile,
         ChecksumService checksumService,
         SignatureVerificationServiceFactory signatureVerificationServiceFactory,
+        CrossBuildVerifiedArtifactCache.Factory verifiedArtifactCacheFactory,
         DependencyVerificationMode verificationMode,
         DocumentationRegistry documentationRegistry,
         File reportsDirectory,
@@ -110,6 +119,7 @@ public ChecksumAndSignatureVerificationOverride(
         }
         BuildTreeDefinedKeys localKeyring = new BuildTreeDefinedKeys(verificationsFile.getParentFile(), verifier.getConfiguration().getKeyringFormat());
         this.signatureVerificationService = signatureVerificationServiceFactory.create(localKeyring, keyServers(), verifier.getConfiguration().isUseKeyServers());
+        this.verifiedArtifactCache = verifiedArtifactCacheFactory.create(verificationsFile, localKeyring.getEffectiveKeyringsFile(), verifier.getConfiguration().isUseKeyServers(), keyServers());
     }
 
     private List<URI> keyServers() {
@@ -144,14 +154,7 @@ private void verifyConcurrently() {
                     queue.add(new RunnableBuildOperation() {
                         @Override
                         public void run(BuildOperationContext context) {
-                            verifier.verify(checksumService, signatureVerificationService, ve.kind, ve.artifact, observed(ve.mainFile), observed(ve.signatureFile.create()), f -> {
-                                synchronized (failuresLock) {
-                                    failures.put(ve.artifact, new RepositoryAwareVerificationFailure(f, ve.repositoryName));
-                                    if (f.isFatal()) {
-                                        hasFatalFailure = true;
-                                    }
-                                }
-                            });
+                            verify(ve);
                         }
 
                         @Override
@@ -166,6 +169,32 @@ public BuildOperationDescriptor.Builder description() {
 
     }
 
+    private void verify(VerificationEvent event) {
+        long startTime = System.nanoTime();
+        File mainFile = observed(event.mainFile);
+        File signatureFile = observed(event.signatureFile.create());
+        HashCode cacheKey = mainFile.exists() ? verifiedArtifactCache.keyOf(event.kind, event.artifact, mainFile, signatureFile) : null;
+        if (cacheKey != null && verifiedArtifactCache.isVerified(cacheKey)) {
+            verifiedFromCache.incrementAndGet();
+        } else {
+            AtomicBoolean failed = new AtomicBoolean();
+            verifier.verify(checksumService, signatureVerificationService, event.kind, event.artifact, mainFile, signatureFile, f -> {
+                failed.set(true);
+                synchronized (failuresLock) {
+                    failures.put(event.artifact, new RepositoryAwareVerificationFailure(f, event.repositoryName));
+                    if (f.isFatal()) {
+                        hasFatalFailure = true;
+                    }
+                }
+            });
+            if (cacheKey != null && !failed.get()) {
+                verifiedArtifactCache.markVerified(cacheKey);
+            }
+        }
+        verifiedArtifacts.incrementAndGet();
+        verificationTime.addAndGet(System.nanoTime() - startTime);
+    }
+
     @Override
     public ModuleComponentRepository<ModuleComponentGraphResolveState> overrideDependencyVerification(ModuleComponentRepository<ModuleComponentGraphResolveState> original) {
         return new DependencyVerifyingModuleComponentRepository(original, this, verifier.getConfiguration().isVerifySignatures());
@@ -241,7 +270,11 @@ private File observed(File file) {
     @Override
     public void stop() {
         closed.set(true);
+        if (verifiedArtifacts.get() > 0) {
+            LOGGER.info("Dependency verification of {} artifacts took {} ms ({} verified in a previous build).", verifiedArtifacts.get(), TimeUnit.NANOSECONDS.toMillis(verificationTime.get()), verifiedFromCache.get());
+        }
         signatureVerificationService.stop();
+        verifiedArtifactCache.stop();
     }
 
     private static class VerificationQuery {
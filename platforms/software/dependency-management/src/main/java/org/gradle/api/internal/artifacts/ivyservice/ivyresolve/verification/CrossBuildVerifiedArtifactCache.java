@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification;
+
+import org.gradle.StartParameter;
+import org.gradle.cache.FileLockManager;
+import org.gradle.cache.IndexedCache;
+import org.gradle.cache.IndexedCacheParameters;
+import org.gradle.cache.PersistentCache;
+import org.gradle.cache.internal.InMemoryCacheDecoratorFactory;
+import org.gradle.cache.scopes.BuildScopedCacheBuilderFactory;
+import org.gradle.internal.component.external.model.ModuleComponentArtifactIdentifier;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.hash.FileHasher;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.Hasher;
+import org.gradle.internal.hash.Hashing;
+import org.gradle.internal.serialize.BaseSerializerFactory;
+import org.gradle.internal.serialize.HashCodeSerializer;
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Remembers which artifacts passed dependency verification in previous builds.
+ *
+ * Entries are keyed by the content hash of the artifact and its signature, together with a fingerprint
+ * of everything else verification depends on: the verification metadata, the keyring and the key servers in effect.
+ * An artifact whose key is found in the cache passed verification against the exact same inputs,
+ * so checksum and signature verification can be skipped.
+ * Only successful verifications are recorded, so failures are always recomputed and reported.
+ *
+ * Keys downloaded from key servers can change without any of these inputs changing, so recorded results are
+ * ignored when keys are refreshed, the same way {@link org.gradle.api.internal.artifacts.verification.signatures.CrossBuildSignatureVerificationService} does.
+ */
+public class CrossBuildVerifiedArtifactCache implements Stoppable {
+    private final FileHasher fileHasher;
+    private final HashCode verificationFingerprint;
+    private final boolean refreshKeys;
+    private final PersistentCache store;
+    private final IndexedCache<HashCode, Boolean> cache;
+
+    private CrossBuildVerifiedArtifactCache(
+        FileHasher fileHasher,
+        BuildScopedCacheBuilderFactory cacheBuilderFactory,
+        InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory,
+        HashCode verificationFingerprint,
+        boolean refreshKeys
+    ) {
+        this.fileHasher = fileHasher;
+        this.verificationFingerprint = verificationFingerprint;
+        this.refreshKeys = refreshKeys;
+        store = cacheBuilderFactory.createCacheBuilder("dependency-verification")
+            .withDisplayName("Verified artifacts cache")
+            .withInitialLockMode(FileLockManager.LockMode.OnDemand)
+            .open();
+        cache = store.createIndexedCache(
+            IndexedCacheParameters.of(
+                "verified-artifacts",
+                new HashCodeSerializer(),
+                BaseSerializerFactory.BOOLEAN_SERIALIZER
+            ).withCacheDecorator(inMemoryCacheDecoratorFactory.decorator(1000, true)));
+    }
+
+    /**
+     * Computes the key under which the verification result of the given artifact is recorded.
+     */
+    public HashCode keyOf(ArtifactVerificationOperation.ArtifactKind kind, ModuleComponentArtifactIdentifier artifact, File mainFile, @Nullable File signatureFile) {
+        Hasher hasher = Hashing.newHasher();
+        hasher.putHash(verificationFingerprint);
+        hasher.putString(kind.name());
+        hasher.putString(artifact.getDisplayName());
+        hasher.putHash(fileHasher.hash(mainFile));
+        if (signatureFile != null && signatureFile.exists()) {
+            hasher.putHash(fileHasher.hash(signatureFile));
+        } else {
+            hasher.putNull();
+        }
+        return hasher.hash();
+    }
+
+    public boolean isVerified(HashCode key) {
+        return !refreshKeys && cache.getIfPresent(key) != null;
+    }
+
+    public void markVerified(HashCode key) {
+        cache.put(key, Boolean.TRUE);
+    }
+
+    @Override
+    public void stop() {
+        store.close();
+    }
+
+    @ServiceScope(Scope.Build.class)
+    public static class Factory {
+        private final FileHasher fileHasher;
+        private final BuildScopedCacheBuilderFactory cacheBuilderFactory;
+        private final InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory;
+        private final boolean refreshKeys;
+
+        @Inject
+        public Factory(FileHasher fileHasher, BuildScopedCacheBuilderFactory cacheBuilderFactory, InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory, StartParameter startParameter) {
+            this.fileHasher = fileHasher;
+            this.cacheBuilderFactory = cacheBuilderFactory;
+            this.inMemoryCacheDecoratorFactory = inMemoryCacheDecoratorFactory;
+            this.refreshKeys = startParameter.isRefreshKeys();
+        }
+
+        /**
+         * Creates a cache for the given verification metadata, keyring file and key servers.
+         */
+        public CrossBuildVerifiedArtifactCache create(File verificationsFile, File keyringsFile, boolean useKeyServers, List<URI> keyServers) {
+            Hasher hasher = Hashing.newHasher();
+            hasher.putHash(fileHasher.hash(verificationsFile));
+            if (keyringsFile.exists()) {
+                hasher.putHash(fileHasher.hash(keyringsFile));
+            } else {
+                hasher.putNull();
+            }
+            hasher.putBoolean(useKeyServers);
+            if (useKeyServers) {
+                hasher.putInt(keyServers.size());
+                for (URI keyServer : keyServers) {
+                    hasher.putString(keyServer.toString());
+                }
+            }
+            return new CrossBuildVerifiedArtifactCache(fileHasher, cacheBuilderFactory, inMemoryCacheDecoratorFactory, hasher.hash(), refreshKeys);
+        }
+    }
+}
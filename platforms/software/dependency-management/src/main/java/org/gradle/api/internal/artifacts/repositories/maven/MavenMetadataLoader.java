@@ -57,12 +57,12 @@ public MavenMetadata load(ExternalResourceName metadataLocation) throws Resource
     }
 
     private void parseMavenMetadataInfo(final ExternalResourceName metadataLocation, final MavenMetadata metadata) throws IOException {
-        ExternalResource resource = cacheAwareExternalResourceAccessor.getResource(metadataLocation, null, new DefaultResourceFileStore<String>(resourcesFileStore) {
+        ExternalResource resource = cacheAwareExternalResourceAccessor.getChangingResource(metadataLocation, new DefaultResourceFileStore<String>(resourcesFileStore) {
             @Override
             protected String computeKey() {
                 return metadataLocation.toString();
             }
-        }, null);
+        });
         if (resource == null) {
             throw new MissingResourceException(metadataLocation.getUri(), String.format("Maven meta-data not available at %s", metadataLocation));
         }
@@ -25,6 +25,8 @@
 import org.gradle.authentication.Authentication;
 import org.gradle.cache.internal.ProducerGuard;
 import org.gradle.internal.authentication.AuthenticationInternal;
+import org.gradle.internal.buildoption.InternalFlag;
+import org.gradle.internal.buildoption.InternalOptions;
 import org.gradle.internal.hash.ChecksumService;
 import org.gradle.internal.operations.BuildOperationRunner;
 import org.gradle.internal.resource.ExternalResourceName;
@@ -50,6 +52,11 @@
 
 @ServiceScope(Scope.Build.class)
 public class RepositoryTransportFactory {
+    /**
+     * Whether cached changing resources, such as Maven version listings, are revalidated with conditional GET requests rather than HEAD requests.
+     */
+    private static final InternalFlag CONDITIONAL_REQUESTS = new InternalFlag("org.gradle.internal.repository.conditional.requests", true);
+
     private final List<ResourceConnectorFactory> registeredProtocols = new ArrayList<>();
 
     private final TemporaryFileProvider temporaryFileProvider;
@@ -61,6 +68,7 @@ public class RepositoryTransportFactory {
     private final ProducerGuard<ExternalResourceName> producerGuard;
     private final FileResourceRepository fileRepository;
     private final ChecksumService checksumService;
+    private final boolean conditionalRequests;
 
     public RepositoryTransportFactory(Collection<ResourceConnectorFactory> resourceConnectorFactory,
                                       TemporaryFileProvider temporaryFileProvider,
@@ -71,7 +79,8 @@ public RepositoryTransportFactory(Collection<ResourceConnectorFactory> resourceC
                                       StartParameterResolutionOverride startParameterResolutionOverride,
                                       ProducerGuard<ExternalResourceName> producerGuard,
                                       FileResourceRepository fileRepository,
-                                      ChecksumService checksumService) {
+                                      ChecksumService checksumService,
+                                      InternalOptions internalOptions) {
         this.temporaryFileProvider = temporaryFileProvider;
         this.cachedExternalResourceIndex = cachedExternalResourceIndex;
         this.timeProvider = timeProvider;
@@ -81,6 +90,7 @@ public RepositoryTransportFactory(Collection<ResourceConnectorFactory> resourceC
         this.producerGuard = producerGuard;
         this.fileRepository = fileRepository;
         this.checksumService = checksumService;
+        this.conditionalRequests = internalOptions.getOption(CONDITIONAL_REQUESTS).get();
 
         registeredProtocols.addAll(resourceConnectorFactory);
     }
@@ -124,7 +134,7 @@ public RepositoryTransport createTransport(Set<String> schemes, String name, Col
         ExternalResourceCachePolicy cachePolicy = new DefaultExternalResourceCachePolicy();
         cachePolicy = startParameterResolutionOverride.overrideExternalResourceCachePolicy(cachePolicy);
 
-        return new ResourceConnectorRepositoryTransport(name, temporaryFileProvider, cachedExternalResourceIndex, timeProvider, artifactCacheLockingManager, resourceConnector, buildOperationRunner, cachePolicy, producerGuard, fileRepository, checksumService);
+        return new ResourceConnectorRepositoryTransport(name, temporaryFileProvider, cachedExternalResourceIndex, timeProvider, artifactCacheLockingManager, resourceConnector, buildOperationRunner, cachePolicy, producerGuard, fileRepository, checksumService, conditionalRequests);
     }
 
     private void validateSchemes(Set<String> schemes) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.transform;
+
+import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.concurrent.WorkerLimits;
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import java.util.concurrent.Executor;
+
+/**
+ * The bounded pool shared by the archive extracting transforms of a build, such as {@link UnzipTransform}.
+ *
+ * The pool is only created once an archive is large enough to be extracted concurrently.
+ */
+@ServiceScope(Scope.Build.class)
+public class ArchiveExtractionExecutor implements Executor, Stoppable {
+    private static final int MAX_EXTRACTION_THREADS = 4;
+
+    private final ExecutorFactory executorFactory;
+    private final int maxConcurrency;
+    @Nullable
+    private ManagedExecutor executor;
+
+    @Inject
+    public ArchiveExtractionExecutor(ExecutorFactory executorFactory, WorkerLimits workerLimits) {
+        this.executorFactory = executorFactory;
+        this.maxConcurrency = Math.min(MAX_EXTRACTION_THREADS, workerLimits.getMaxWorkerCount());
+    }
+
+    /**
+     * Returns the number of entries that can be extracted at the same time.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        getExecutor().execute(command);
+    }
+
+    private synchronized ManagedExecutor getExecutor() {
+        if (executor == null) {
+            executor = executorFactory.create("Archive extraction", maxConcurrency);
+        }
+        return executor;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.stop();
+            executor = null;
+        }
+    }
+}
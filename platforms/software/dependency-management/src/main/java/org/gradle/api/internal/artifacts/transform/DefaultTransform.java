@@ -98,6 +98,10 @@
 import static org.gradle.internal.deprecation.Documentation.userManual;
 
 public class DefaultTransform implements Transform {
+    /**
+     * Internal services that the transforms shipped with Gradle can inject, in addition to the public ones.
+     */
+    private static final ImmutableList<Class<?>> INTERNAL_TRANSFORM_SERVICES = ImmutableList.of(ArchiveExtractionExecutor.class);
 
     private final Class<? extends TransformAction<?>> implementationClass;
     private final ImmutableAttributes fromAttributes;
@@ -405,7 +409,7 @@ private static String getParameterObjectDisplayName(Object parameterObject) {
 
     private TransformAction<?> newTransformAction(Provider<FileSystemLocation> inputArtifactProvider, TransformDependencies transformDependencies, @Nullable InputChanges inputChanges) {
         TransformParameters parameters = isolatedParameters.get().getIsolatedParameterObject().isolate();
-        ServiceLookup services = new IsolationScheme<>(TransformAction.class, TransformParameters.class, TransformParameters.None.class).servicesForImplementation(parameters, internalServices);
+        ServiceLookup services = new IsolationScheme<>(TransformAction.class, TransformParameters.class, TransformParameters.None.class).servicesForImplementation(parameters, internalServices, INTERNAL_TRANSFORM_SERVICES, serviceType -> false);
         services = new TransformServiceLookup(inputArtifactProvider, requiresDependencies ? transformDependencies : null, inputChanges, services);
         return instanceFactory.newInstance(services);
     }
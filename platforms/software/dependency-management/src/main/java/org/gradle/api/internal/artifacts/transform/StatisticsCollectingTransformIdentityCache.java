@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.transform;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.cache.Cache;
+import org.gradle.internal.session.BuildSessionLifecycleListener;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Keeps track of how often transform results are shared via the identity cache.
+ *
+ * The identity cache is shared by all consumers and projects in the build session, so that an intermediate
+ * result of a transform chain is computed once and reused by every chain that needs the same step on the same input.
+ * At the end of each build session the number of added and reused results is reported.
+ * A result is added when it is first requested in the build session, whether it was executed, loaded from
+ * an existing immutable workspace or failed.
+ */
+public class StatisticsCollectingTransformIdentityCache<K, V> implements Cache<K, V>, BuildSessionLifecycleListener {
+    private static final Logger LOGGER = Logging.getLogger(StatisticsCollectingTransformIdentityCache.class);
+
+    private final Cache<K, V> delegate;
+    private final AtomicLong added = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+
+    public StatisticsCollectingTransformIdentityCache(Cache<K, V> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> factory) {
+        boolean[] wasAdded = new boolean[1];
+        V value = delegate.get(key, k -> {
+            wasAdded[0] = true;
+            return factory.apply(k);
+        });
+        if (wasAdded[0]) {
+            added.incrementAndGet();
+        } else {
+            reused.incrementAndGet();
+        }
+        return value;
+    }
+
+    @Nullable
+    @Override
+    public V getIfPresent(K key) {
+        V value = delegate.getIfPresent(key);
+        if (value != null) {
+            reused.incrementAndGet();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        added.incrementAndGet();
+        delegate.put(key, value);
+    }
+
+    @VisibleForTesting
+    long getAddedCount() {
+        return added.get();
+    }
+
+    @VisibleForTesting
+    long getReusedCount() {
+        return reused.get();
+    }
+
+    @Override
+    public void beforeComplete() {
+        long addedCount = added.getAndSet(0);
+        long reusedCount = reused.getAndSet(0);
+        if (addedCount > 0 || reusedCount > 0) {
+            LOGGER.info("Artifact transforms: {} results added to and {} results reused from the shared identity cache.", addedCount, reusedCount);
+        }
+    }
+}
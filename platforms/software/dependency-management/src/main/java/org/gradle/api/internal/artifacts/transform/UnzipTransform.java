@@ -16,7 +16,7 @@
 
 package org.gradle.api.internal.artifacts.transform;
 
-import com.google.common.io.Files;
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.io.IOUtils;
 import org.gradle.api.artifacts.transform.InputArtifact;
 import org.gradle.api.artifacts.transform.TransformAction;
@@ -29,13 +29,26 @@
 import org.gradle.internal.UncheckedException;
 import org.gradle.work.DisableCachingByDefault;
 
-import java.io.BufferedInputStream;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import static org.apache.commons.io.FilenameUtils.removeExtension;
 import static org.gradle.internal.file.PathTraversalChecker.safePathName;
@@ -47,36 +60,90 @@
  */
 @DisableCachingByDefault(because = "Not worth caching")
 public abstract class UnzipTransform implements TransformAction<TransformParameters.None> {
+    @VisibleForTesting
+    static final int MIN_ENTRIES_FOR_CONCURRENT_EXTRACTION = 64;
 
     @PathSensitive(PathSensitivity.NAME_ONLY)
     @InputArtifact
     public abstract Provider<FileSystemLocation> getZippedFile();
 
+    @Inject
+    protected abstract ArchiveExtractionExecutor getExtractionExecutor();
+
     @Override
     public void transform(TransformOutputs outputs) {
         File zippedFile = getZippedFile().get().getAsFile();
         String unzippedDirName = removeExtension(zippedFile.getName());
         File unzipDir = outputs.dir(unzippedDirName);
+        ArchiveExtractionExecutor executor = getExtractionExecutor();
         try {
-            unzipTo(zippedFile, unzipDir);
+            unzipTo(zippedFile, unzipDir, executor.getMaxConcurrency() > 1 ? executor : null);
         } catch (IOException e) {
             throw UncheckedException.throwAsUncheckedException(e);
         }
     }
 
-    private static void unzipTo(File headersZip, File unzipDir) throws IOException {
-        try (ZipInputStream inputStream = new ZipInputStream(new BufferedInputStream(new FileInputStream(headersZip)))) {
-            ZipEntry entry;
-            while ((entry = inputStream.getNextEntry()) != null) {
+    /**
+     * Extracts the archive into the given directory, on the given executor when the archive has enough entries to benefit from it.
+     */
+    @VisibleForTesting
+    static void unzipTo(File zippedFile, File unzipDir, @Nullable Executor executor) throws IOException {
+        try (ZipFile zipFile = new ZipFile(zippedFile)) {
+            // The central directory lists all entries up front, so parent directories can be created
+            // before the entries themselves are extracted, potentially concurrently.
+            // When an archive contains duplicate entries, the last one wins, as with sequential extraction.
+            Map<File, ZipEntry> entriesByTarget = new LinkedHashMap<>();
+            Set<File> parentDirs = new LinkedHashSet<>();
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
                 if (entry.isDirectory()) {
                     continue;
                 }
                 File outFile = new File(unzipDir, safePathName(entry.getName()));
-                Files.createParentDirs(outFile);
-                try (FileOutputStream outputStream = new FileOutputStream(outFile)) {
-                    IOUtils.copyLarge(inputStream, outputStream);
+                parentDirs.add(outFile.getParentFile());
+                entriesByTarget.put(outFile, entry);
+            }
+            for (File parentDir : parentDirs) {
+                Files.createDirectories(parentDir.toPath());
+            }
+            if (executor == null || entriesByTarget.size() < MIN_ENTRIES_FOR_CONCURRENT_EXTRACTION) {
+                for (Map.Entry<File, ZipEntry> entry : entriesByTarget.entrySet()) {
+                    extractEntry(zipFile, entry.getValue(), entry.getKey());
                 }
+            } else {
+                extractConcurrently(zipFile, entriesByTarget, executor);
             }
         }
     }
+
+    private static void extractConcurrently(ZipFile zipFile, Map<File, ZipEntry> entriesByTarget, Executor executor) throws IOException {
+        List<CompletableFuture<Void>> results = new ArrayList<>(entriesByTarget.size());
+        for (Map.Entry<File, ZipEntry> entry : entriesByTarget.entrySet()) {
+            results.add(CompletableFuture.runAsync(() -> {
+                try {
+                    extractEntry(zipFile, entry.getValue(), entry.getKey());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor));
+        }
+        try {
+            // Completes once every entry is done, so the archive is not closed while entries are still being extracted
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw UncheckedException.throwAsUncheckedException(cause);
+        }
+    }
+
+    private static void extractEntry(ZipFile zipFile, ZipEntry entry, File outFile) throws IOException {
+        try (InputStream inputStream = zipFile.getInputStream(entry);
+             FileOutputStream outputStream = new FileOutputStream(outFile)) {
+            IOUtils.copyLarge(inputStream, outputStream);
+        }
+    }
 }
@@ -39,6 +39,17 @@ public interface CacheAwareExternalResourceAccessor {
     @Nullable
     LocallyAvailableExternalResource getResource(ExternalResourceName source, @Nullable String baseName, ResourceFileStore fileStore, @Nullable LocallyAvailableResourceCandidates additionalCandidates) throws IOException;
 
+    /**
+     * Fetches a resource whose content is expected to change over time, such as a version listing.
+     * No local candidates are considered, and a cached copy is revalidated with a conditional request where possible.
+     * @param source the URI of the resource to be fetched
+     * @param fileStore used whenever the resource is effectively downloaded, to move it into a cache
+     * @return a locally available resource, if found
+     * @throws IOException whenever an error occurs when downloading of fetching from the cache
+     */
+    @Nullable
+    LocallyAvailableExternalResource getChangingResource(ExternalResourceName source, ResourceFileStore fileStore) throws IOException;
+
     interface ResourceFileStore {
         /**
          * Called when a resource is to be cached. Should *move* the given file into the appropriate location and return a handle to the file.
@@ -61,8 +61,9 @@ public class DefaultCacheAwareExternalResourceAccessor implements CacheAwareExte
     private final ProducerGuard<ExternalResourceName> producerGuard;
     private final FileResourceRepository fileResourceRepository;
     private final ChecksumService checksumService;
+    private final boolean conditionalRequests;
 
-    public DefaultCacheAwareExternalResourceAccessor(ExternalResourceRepository delegate, CachedExternalResourceIndex<String> cachedExternalResourceIndex, BuildCommencedTimeProvider timeProvider, TemporaryFileProvider temporaryFileProvider, ArtifactCacheLockingAccessCoordinator cacheAccessCoordinator, ExternalResourceCachePolicy externalResourceCachePolicy, ProducerGuard<ExternalResourceName> producerGuard, FileResourceRepository fileResourceRepository, ChecksumService checksumService) {
+    public DefaultCacheAwareExternalResourceAccessor(ExternalResourceRepository delegate, CachedExternalResourceIndex<String> cachedExternalResourceIndex, BuildCommencedTimeProvider timeProvider, TemporaryFileProvider temporaryFileProvider, ArtifactCacheLockingAccessCoordinator cacheAccessCoordinator, ExternalResourceCachePolicy externalResourceCachePolicy, ProducerGuard<ExternalResourceName> producerGuard, FileResourceRepository fileResourceRepository, ChecksumService checksumService, boolean conditionalRequests) {
         this.delegate = delegate;
         this.cachedExternalResourceIndex = cachedExternalResourceIndex;
         this.timeProvider = timeProvider;
@@ -72,6 +73,7 @@ public DefaultCacheAwareExternalResourceAccessor(ExternalResourceRepository dele
         this.producerGuard = producerGuard;
         this.fileResourceRepository = fileResourceRepository;
         this.checksumService = checksumService;
+        this.conditionalRequests = conditionalRequests;
     }
 
     @Nullable
@@ -148,6 +150,49 @@ public LocallyAvailableExternalResource getResource(final ExternalResourceName l
         });
     }
 
+    @Nullable
+    @Override
+    public LocallyAvailableExternalResource getChangingResource(ExternalResourceName location, ResourceFileStore fileStore) {
+        if (!conditionalRequests) {
+            return getResource(location, null, fileStore, null);
+        }
+        return producerGuard.guardByKey(location, () -> {
+            LOGGER.debug("Constructing changing external resource: {}", location);
+            CachedExternalResource cached = cachedExternalResourceIndex.lookup(location.toString());
+            if (cached == null) {
+                return copyToCache(location, fileStore, delegate.withProgressLogging().resource(location));
+            }
+
+            // A cached version that was already revalidated during this build is reused, so each resource is requested at most once per build
+            if (!externalResourceCachePolicy.mustRefreshExternalResource(getAgeMillis(timeProvider, cached))) {
+                return fileResourceRepository.resource(cached.getCachedFile(), location.getUri(), cached.getExternalResourceMetaData());
+            }
+
+            ExternalResourceMetaData cachedMetaData = cached.getExternalResourceMetaData();
+            if (cachedMetaData == null) {
+                return copyToCache(location, fileStore, delegate.withProgressLogging().resource(location, true));
+            }
+
+            // Ask the upstreams to send the content only when it has changed since it was cached
+            DownloadAction downloadAction = new DownloadAction(location, temporaryFileProvider, LOGGER);
+            ExternalResourceReadResult<Object> result = delegate.withProgressLogging().resource(location, true).withContentIfChanged(cachedMetaData, downloadAction);
+            if (result != null && result.isUnchanged()) {
+                LOGGER.info("Cached resource {} is up-to-date (lastModified: {}).", location, cached.getExternalLastModified());
+                // Update the cache entry in the index: this resets the age of the cached entry to zero
+                cachedExternalResourceIndex.store(location.toString(), cached.getCachedFile(), cachedMetaData);
+                return fileResourceRepository.resource(cached.getCachedFile(), location.getUri(), cachedMetaData);
+            }
+            if (downloadAction.getMetaData() == null) {
+                return null;
+            }
+            try {
+                return moveIntoCache(location, downloadAction.getDestination(), fileStore, downloadAction.getMetaData());
+            } finally {
+                downloadAction.getDestination().delete();
+            }
+        });
+    }
+
     @Nullable
     private HashCode getResourceSha1(ExternalResourceName location, boolean revalidate) {
         try {
@@ -25,6 +25,7 @@
 import org.gradle.internal.resource.ExternalResourceName;
 import org.gradle.internal.resource.ExternalResourceReadBuildOperationType;
 import org.gradle.internal.resource.ExternalResourceReadMetadataBuildOperationType;
+import org.gradle.internal.resource.ExternalResourceReadResult;
 import org.gradle.internal.resource.ResourceExceptions;
 import org.gradle.internal.resource.metadata.ExternalResourceMetaData;
 
@@ -43,7 +44,13 @@ public ProgressLoggingExternalResourceAccessor(ExternalResourceAccessor delegate
     @Nullable
     @Override
     public <T> T withContent(ExternalResourceName location, boolean revalidate, ExternalResource.ContentAndMetadataAction<T> action) throws ResourceException {
-        return buildOperationRunner.call(new DownloadOperation<>(location, revalidate, action));
+        return buildOperationRunner.call(new DownloadOperation<>(location, action, progressAction -> delegate.withContent(location, revalidate, progressAction)));
+    }
+
+    @Nullable
+    @Override
+    public <T> ExternalResourceReadResult<T> withContentIfChanged(ExternalResourceName location, ExternalResourceMetaData cachedMetaData, ExternalResource.ContentAndMetadataAction<ExternalResourceReadResult<T>> action) throws ResourceException {
+        return buildOperationRunner.call(new DownloadOperation<>(location, action, progressAction -> delegate.withContentIfChanged(location, cachedMetaData, progressAction)));
     }
 
     @Override
@@ -105,22 +112,27 @@ public String toString() {
 
     }
 
+    private interface ContentReader<T> {
+        @Nullable
+        T read(ExternalResource.ContentAndMetadataAction<T> action);
+    }
+
     private class DownloadOperation<T> implements CallableBuildOperation<T> {
         private final ExternalResourceName location;
-        private final boolean revalidate;
         private final ExternalResource.ContentAndMetadataAction<T> action;
+        private final ContentReader<T> reader;
 
-        public DownloadOperation(ExternalResourceName location, boolean revalidate, ExternalResource.ContentAndMetadataAction<T> action) {
+        public DownloadOperation(ExternalResourceName location, ExternalResource.ContentAndMetadataAction<T> action, ContentReader<T> reader) {
             this.location = location;
-            this.revalidate = revalidate;
             this.action = action;
+            this.reader = reader;
         }
 
         @Override
         public T call(BuildOperationContext context) {
             ResourceOperation downloadOperation = createResourceOperation(context, ResourceOperation.Type.download);
             try {
-                return delegate.withContent(location, revalidate, (inputStream, metaData) -> {
+                return reader.read((inputStream, metaData) -> {
                     downloadOperation.setContentLength(metaData.getContentLength());
                     if(metaData.wasMissing()) {
                         context.failed(ResourceExceptions.getMissing(metaData.getLocation()));
@@ -43,7 +43,7 @@ public FileTransport(String name, FileResourceRepository repository, CachedExter
         super(name);
         this.repository = repository;
         ExternalResourceCachePolicy cachePolicy = new DefaultExternalResourceCachePolicy();
-        resourceAccessor = new FileCacheAwareExternalResourceAccessor(new DefaultCacheAwareExternalResourceAccessor(repository, cachedExternalResourceIndex, timeProvider, temporaryFileProvider, cacheAccessCoordinator, cachePolicy, producerGuard, repository, checksumService));
+        resourceAccessor = new FileCacheAwareExternalResourceAccessor(new DefaultCacheAwareExternalResourceAccessor(repository, cachedExternalResourceIndex, timeProvider, temporaryFileProvider, cacheAccessCoordinator, cachePolicy, producerGuard, repository, checksumService, false));
     }
 
     @Override
@@ -83,5 +83,11 @@ public LocallyAvailableExternalResource getResource(ExternalResourceName source,
                 return delegate.getResource(source, baseName, fileStore, additionalCandidates);
             }
         }
+
+        @Nullable
+        @Override
+        public LocallyAvailableExternalResource getChangingResource(ExternalResourceName source, ResourceFileStore fileStore) throws IOException {
+            return getResource(source, null, fileStore, null);
+        }
     }
 }
@@ -27,6 +27,7 @@ import org.gradle.api.internal.artifacts.ImmutableModuleIdentifierFactory
 import org.gradle.api.internal.artifacts.configurations.dynamicversion.CachePolicy
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy.VersionComparator
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy.VersionParser
+import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.CrossBuildVerifiedArtifactCache
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.DependencyVerificationOverride
 import org.gradle.api.internal.artifacts.ivyservice.modulecache.AbstractModuleMetadataCache
 import org.gradle.api.internal.artifacts.ivyservice.modulecache.ModuleRepositoryCacheProvider
@@ -55,6 +56,7 @@ import org.gradle.internal.resource.local.FileResourceListener
 import org.gradle.internal.resource.local.FileStore
 import org.gradle.internal.resource.local.LocallyAvailableResourceFinder
 import org.gradle.internal.resource.transfer.CacheAwareExternalResourceAccessor
+import org.gradle.internal.work.WorkerLeaseService
 import org.gradle.util.AttributeTestUtil
 import org.gradle.util.TestUtil
 import org.gradle.util.internal.BuildCommencedTimeProvider
@@ -75,7 +77,7 @@ class ExternalModuleComponentResolverFactoryTest extends Specification {
         ModuleRepositoryCacheProvider cacheProvider = new ModuleRepositoryCacheProvider(caches, caches)
         StartParameterResolutionOverride startParameterResolutionOverride = Mock(StartParameterResolutionOverride) {
             _ * overrideModuleVersionRepository(_) >> { ModuleComponentRepository repository -> repository }
-            _ * dependencyVerificationOverride(_, _, _, _, _, _, _) >> DependencyVerificationOverride.NO_VERIFICATION
+            _ * dependencyVerificationOverride(_, _, _, _, _, _, _, _) >> DependencyVerificationOverride.NO_VERIFICATION
         }
 
         def resolveStateFactory = DependencyManagementTestUtil.modelGraphResolveFactory()
@@ -83,6 +85,7 @@ class ExternalModuleComponentResolverFactoryTest extends Specification {
             Mock(BuildOperationExecutor),
             TestUtil.checksumService,
             Mock(SignatureVerificationServiceFactory),
+            Mock(CrossBuildVerifiedArtifactCache.Factory),
             new DocumentationRegistry(),
             Mock(BuildCommencedTimeProvider),
             () -> Mock(GradleProperties),
@@ -97,6 +100,7 @@ class ExternalModuleComponentResolverFactoryTest extends Specification {
             Mock(VersionComparator),
             Mock(ImmutableModuleIdentifierFactory),
             Mock(RepositoryDisabler),
+            new RepositoryDownloadScheduler(0, Stub(WorkerLeaseService)),
             new VersionParser(),
             Mock(ListenerManager),
             resolveStateFactory,
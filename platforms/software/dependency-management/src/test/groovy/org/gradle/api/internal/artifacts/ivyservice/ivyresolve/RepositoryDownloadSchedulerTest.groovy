@@ -0,0 +1,204 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve
+
+import org.gradle.api.BuildCancelledException
+import org.gradle.internal.component.model.ComponentArtifactMetadata
+import org.gradle.internal.component.model.ModuleSources
+import org.gradle.internal.resolve.result.DefaultBuildableArtifactFileResolveResult
+import org.gradle.internal.work.WorkerLeaseService
+import org.gradle.test.fixtures.concurrent.ConcurrentSpec
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+
+class RepositoryDownloadSchedulerTest extends ConcurrentSpec {
+    @Rule
+    TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider(getClass())
+    def workerLeaseService = Stub(WorkerLeaseService) {
+        blocking(_) >> { Runnable action -> action.run() }
+    }
+
+    def "limits concurrent downloads per repository to the connection budget"() {
+        def scheduler = new RepositoryDownloadScheduler(1, workerLeaseService)
+
+        when:
+        async {
+            start {
+                def permit = scheduler.acquire("repo", "Repo")
+                instant.firstStarted
+                thread.blockUntil.secondWaiting
+                instant.firstReleasing
+                permit.release(10)
+            }
+            start {
+                thread.blockUntil.firstStarted
+                instant.secondWaiting
+                def permit = scheduler.acquire("repo", "Repo")
+                instant.secondStarted
+                permit.release(20)
+            }
+        }
+
+        then:
+        instant.secondStarted > instant.firstReleasing
+
+        and:
+        def statistics = scheduler.getStatistics("repo")
+        statistics.downloadCount == 2
+        statistics.downloadedBytes == 30
+        statistics.maxConcurrentDownloads == 1
+    }
+
+    def "releases the worker lease only while waiting for a permit"() {
+        def leaseService = Mock(WorkerLeaseService)
+        def scheduler = new RepositoryDownloadScheduler(1, leaseService)
+
+        when:
+        def permit = scheduler.acquire("repo", "Repo")
+
+        then:
+        0 * leaseService._
+
+        when:
+        async {
+            start {
+                scheduler.acquire("repo", "Repo").release(0)
+            }
+            thread.blockUntil.waiting
+            permit.release(0)
+        }
+
+        then:
+        1 * leaseService.blocking(_) >> { Runnable action ->
+            instant.waiting
+            action.run()
+        }
+        scheduler.getStatistics("repo").downloadCount == 2
+    }
+
+    def "cancels the build when interrupted while waiting for a permit"() {
+        def scheduler = new RepositoryDownloadScheduler(1, workerLeaseService)
+        scheduler.acquire("repo", "Repo")
+
+        when:
+        Thread.currentThread().interrupt()
+        scheduler.acquire("repo", "Repo")
+
+        then:
+        def e = thrown(BuildCancelledException)
+        e.message == "Build cancelled while waiting to download from repository 'Repo'."
+        e.cause instanceof InterruptedException
+        Thread.interrupted()
+    }
+
+    def "budgets are tracked separately for each repository"() {
+        def scheduler = new RepositoryDownloadScheduler(1, workerLeaseService)
+
+        when:
+        async {
+            start {
+                def permit = scheduler.acquire("repo1", "Repo 1")
+                instant.firstStarted
+                thread.blockUntil.secondStarted
+                permit.release(0)
+            }
+            start {
+                def permit = scheduler.acquire("repo2", "Repo 2")
+                instant.secondStarted
+                thread.blockUntil.firstStarted
+                permit.release(0)
+            }
+        }
+
+        then:
+        scheduler.getStatistics("repo1").downloadCount == 1
+        scheduler.getStatistics("repo2").downloadCount == 1
+    }
+
+    def "does not limit concurrent downloads when no budget is configured"() {
+        def scheduler = new RepositoryDownloadScheduler(0, workerLeaseService)
+
+        when:
+        def permit1 = scheduler.acquire("repo", "Repo")
+        def permit2 = scheduler.acquire("repo", "Repo")
+        def permit3 = scheduler.acquire("repo", "Repo")
+        [permit1, permit2, permit3]*.release(1)
+
+        then:
+        def statistics = scheduler.getStatistics("repo")
+        statistics.downloadCount == 3
+        statistics.maxConcurrentDownloads == 3
+    }
+
+    def "remote artifact downloads hold a permit and record the downloaded size"() {
+        def scheduler = new RepositoryDownloadScheduler(2, workerLeaseService)
+        def file = tmpDir.file("artifact.jar") << "12345"
+        def remoteAccess = Mock(ModuleComponentRepositoryAccess)
+        def localAccess = Mock(ModuleComponentRepositoryAccess)
+        def delegate = Stub(ModuleComponentRepository) {
+            getId() >> "repo"
+            getName() >> "Repo"
+            getLocalAccess() >> localAccess
+            getRemoteAccess() >> remoteAccess
+        }
+        def repository = new DownloadSchedulingModuleComponentRepository(delegate, scheduler)
+        def result = new DefaultBuildableArtifactFileResolveResult()
+
+        when:
+        repository.remoteAccess.resolveArtifact(Stub(ComponentArtifactMetadata), Stub(ModuleSources), result)
+
+        then:
+        1 * remoteAccess.resolveArtifact(_, _, result) >> {
+            assert scheduler.getStatistics("repo").downloadCount == 0
+            result.resolved(file)
+        }
+
+        and:
+        def statistics = scheduler.getStatistics("repo")
+        statistics.downloadCount == 1
+        statistics.downloadedBytes == 5
+
+        and:
+        repository.localAccess.is(localAccess)
+    }
+
+    def "releases permit when download fails"() {
+        def scheduler = new RepositoryDownloadScheduler(1, workerLeaseService)
+        def remoteAccess = Mock(ModuleComponentRepositoryAccess)
+        def delegate = Stub(ModuleComponentRepository) {
+            getId() >> "repo"
+            getName() >> "Repo"
+            getRemoteAccess() >> remoteAccess
+        }
+        def repository = new DownloadSchedulingModuleComponentRepository(delegate, scheduler)
+        def failure = new RuntimeException("broken")
+
+        when:
+        repository.remoteAccess.resolveArtifact(Stub(ComponentArtifactMetadata), Stub(ModuleSources), new DefaultBuildableArtifactFileResolveResult())
+
+        then:
+        1 * remoteAccess.resolveArtifact(_, _, _) >> { throw failure }
+        def e = thrown(RuntimeException)
+        e == failure
+
+        when:
+        scheduler.acquire("repo", "Repo").release(0)
+
+        then:
+        scheduler.getStatistics("repo").downloadCount == 2
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification
+
+import org.gradle.StartParameter
+import org.gradle.api.internal.artifacts.DefaultModuleIdentifier
+import org.gradle.api.internal.file.TestFiles
+import org.gradle.cache.CacheBuilder
+import org.gradle.cache.CacheDecorator
+import org.gradle.cache.PersistentCache
+import org.gradle.cache.internal.InMemoryCacheDecoratorFactory
+import org.gradle.cache.scopes.BuildScopedCacheBuilderFactory
+import org.gradle.internal.component.external.model.DefaultModuleComponentArtifactIdentifier
+import org.gradle.internal.component.external.model.DefaultModuleComponentIdentifier
+import org.gradle.internal.hash.HashCode
+import org.gradle.internal.serialize.BaseSerializerFactory
+import org.gradle.test.fixtures.file.TestFile
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.gradle.testfixtures.internal.TestInMemoryIndexedCache
+import org.junit.Rule
+import spock.lang.Specification
+
+import static org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.ArtifactVerificationOperation.ArtifactKind.REGULAR
+
+class CrossBuildVerifiedArtifactCacheTest extends Specification {
+
+    @Rule
+    private final TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider(getClass())
+
+    private final TestInMemoryIndexedCache<HashCode, Boolean> store = new TestInMemoryIndexedCache<>(BaseSerializerFactory.BOOLEAN_SERIALIZER)
+    private final BuildScopedCacheBuilderFactory cacheBuilderFactory = Mock()
+    private final InMemoryCacheDecoratorFactory cacheDecoratorFactory = Mock()
+    private final StartParameter startParameter = new StartParameter()
+
+    private final artifact = new DefaultModuleComponentArtifactIdentifier(DefaultModuleComponentIdentifier.newId(DefaultModuleIdentifier.newId("org", "foo"), "1.0"), "foo", "jar", "jar")
+    private final List<URI> keyServers = [new URI("https://keys.openpgp.org")]
+
+    private TestFile verificationsFile
+    private TestFile keyringsFile
+    private TestFile artifactFile
+    private TestFile signatureFile
+
+    def setup() {
+        def cacheBuilder
+        cacheBuilder = Mock(CacheBuilder) {
+            withDisplayName(_) >> { cacheBuilder }
+            withInitialLockMode(_) >> { cacheBuilder }
+            open() >> {
+                Mock(PersistentCache) {
+                    createIndexedCache(_) >> store
+                }
+            }
+        }
+        cacheBuilderFactory.createCacheBuilder(_) >> cacheBuilder
+        cacheDecoratorFactory.decorator(_, _) >> Mock(CacheDecorator)
+
+        verificationsFile = tmpDir.file("verification-metadata.xml") << "<verification-metadata/>"
+        keyringsFile = tmpDir.file("verification-keyring.keys") << "keys"
+        artifactFile = tmpDir.file("foo-1.0.jar") << "artifact"
+        signatureFile = tmpDir.file("foo-1.0.jar.asc") << "signature"
+    }
+
+    def "artifact verified against the same inputs is remembered"() {
+        given:
+        markVerified()
+
+        expect:
+        isVerified()
+    }
+
+    def "artifact is verified again when #input changes"() {
+        given:
+        markVerified()
+
+        when:
+        change.call(this)
+
+        then:
+        !isVerified()
+
+        where:
+        input                   | change
+        "verification metadata" | { it.verificationsFile << "<!-- changed -->" }
+        "keyring"               | { it.keyringsFile << "more keys" }
+        "keyring presence"      | { it.keyringsFile.delete() }
+        "artifact"              | { it.artifactFile << "changed" }
+        "signature"             | { it.signatureFile << "changed" }
+    }
+
+    def "artifact is verified again when key servers change"() {
+        given:
+        markVerified()
+
+        expect:
+        !isVerified(false, keyServers)
+        !isVerified(true, [new URI("https://keyserver.ubuntu.com")])
+    }
+
+    def "artifact is verified again when keys are refreshed"() {
+        given:
+        markVerified()
+
+        when:
+        startParameter.refreshKeys = true
+
+        then:
+        !isVerified()
+
+        when:
+        markVerified()
+        startParameter.refreshKeys = false
+
+        then:
+        isVerified()
+    }
+
+    private void markVerified() {
+        def cache = createCache(true, keyServers)
+        cache.markVerified(cache.keyOf(REGULAR, artifact, artifactFile, signatureFile))
+    }
+
+    private boolean isVerified(boolean useKeyServers = true, List<URI> keyServers = this.keyServers) {
+        def cache = createCache(useKeyServers, keyServers)
+        cache.isVerified(cache.keyOf(REGULAR, artifact, artifactFile, signatureFile))
+    }
+
+    private CrossBuildVerifiedArtifactCache createCache(boolean useKeyServers, List<URI> keyServers) {
+        def factory = new CrossBuildVerifiedArtifactCache.Factory(TestFiles.fileHasher(), cacheBuilderFactory, cacheDecoratorFactory, startParameter)
+        factory.create(verificationsFile, keyringsFile, useKeyServers, keyServers)
+    }
+}
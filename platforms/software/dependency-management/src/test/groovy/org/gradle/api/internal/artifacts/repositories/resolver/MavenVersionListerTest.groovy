@@ -59,7 +59,7 @@ class MavenVersionListerTest extends Specification {
         result.attempted == [metaDataResource.toString()]
 
         and:
-        1 * resourceAccessor.getResource(metaDataResource, null, _, null) >> resource
+        1 * resourceAccessor.getChangingResource(metaDataResource, _) >> resource
         1 * resource.withContent(_) >> { Action action -> action.execute(new ByteArrayInputStream("""
 <metadata>
     <versioning>
@@ -91,7 +91,7 @@ class MavenVersionListerTest extends Specification {
         result.attempted == [location1.toString(), location2.toString()]
 
         and:
-        1 * resourceAccessor.getResource(location1, null, _, null) >> resource1
+        1 * resourceAccessor.getChangingResource(location1, _) >> resource1
         1 * resource1.withContent(_) >> { Action action -> action.execute(new ByteArrayInputStream("""
 <metadata>
     <versioning>
@@ -102,7 +102,7 @@ class MavenVersionListerTest extends Specification {
     </versioning>
 </metadata>""".bytes))
         }
-        1 * resourceAccessor.getResource(location2, null, _, null) >> resource2
+        1 * resourceAccessor.getChangingResource(location2, _) >> resource2
         1 * resource2.withContent(_) >> { Action action -> action.execute(new ByteArrayInputStream("""
 <metadata>
     <versioning>
@@ -127,7 +127,7 @@ class MavenVersionListerTest extends Specification {
         result.attempted == [metaDataResource.toString()]
 
         and:
-        1 * resourceAccessor.getResource(metaDataResource, null, _, null) >> resource
+        1 * resourceAccessor.getChangingResource(metaDataResource, _) >> resource
         1 * resource.withContent(_) >> { Action action -> action.execute(new ByteArrayInputStream("""
 <metadata>
     <versioning>
@@ -151,7 +151,7 @@ class MavenVersionListerTest extends Specification {
         result.attempted == [metaDataResource.toString()]
 
         and:
-        1 * resourceAccessor.getResource(metaDataResource, null, _, null) >> null
+        1 * resourceAccessor.getChangingResource(metaDataResource, _) >> null
         0 * resourceAccessor._
     }
 
@@ -171,7 +171,7 @@ class MavenVersionListerTest extends Specification {
         result.attempted == [metaDataResource.toString()]
 
         and:
-        1 * resourceAccessor.getResource(metaDataResource, null, _, null) >> resource;
+        1 * resourceAccessor.getChangingResource(metaDataResource, _) >> resource;
         1 * resource.withContent(_) >> { Action action -> action.execute(new ByteArrayInputStream("yo".bytes)) }
         0 * resourceAccessor._
     }
@@ -191,7 +191,7 @@ class MavenVersionListerTest extends Specification {
         result.attempted == [metaDataResource.toString()]
 
         and:
-        1 * resourceAccessor.getResource(metaDataResource, null, _, null) >> { throw failure }
+        1 * resourceAccessor.getChangingResource(metaDataResource, _) >> { throw failure }
         0 * resourceAccessor._
     }
 
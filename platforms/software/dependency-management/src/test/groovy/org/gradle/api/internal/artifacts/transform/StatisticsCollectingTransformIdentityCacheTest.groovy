@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.transform
+
+import org.gradle.cache.ManualEvictionInMemoryCache
+import spock.lang.Specification
+
+import java.util.function.Supplier
+
+class StatisticsCollectingTransformIdentityCacheTest extends Specification {
+    def cache = new StatisticsCollectingTransformIdentityCache<String, String>(new ManualEvictionInMemoryCache<String, String>())
+
+    def "counts added and reused results"() {
+        when:
+        def first = cache.get("identity", { "result" } as Supplier<String>)
+        def second = cache.get("identity", { throw new IllegalStateException() } as Supplier<String>)
+        def third = cache.getIfPresent("identity")
+        def missing = cache.getIfPresent("other")
+
+        then:
+        first == "result"
+        second == "result"
+        third == "result"
+        missing == null
+        cache.addedCount == 1
+        cache.reusedCount == 2
+    }
+
+    def "resets statistics at the end of the build session"() {
+        given:
+        cache.put("identity", "result")
+        cache.getIfPresent("identity")
+
+        when:
+        cache.beforeComplete()
+
+        then:
+        cache.addedCount == 0
+        cache.reusedCount == 0
+        cache.getIfPresent("identity") == "result"
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.transform
+
+import org.gradle.test.fixtures.file.TestFile
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+
+import static org.gradle.api.internal.artifacts.transform.UnzipTransform.MIN_ENTRIES_FOR_CONCURRENT_EXTRACTION
+
+class UnzipTransformTest extends Specification {
+
+    @Rule
+    private final TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider(getClass())
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4)
+    private final AtomicInteger submitted = new AtomicInteger()
+    private final executor = { Runnable command ->
+        submitted.incrementAndGet()
+        pool.execute(command)
+    } as Executor
+
+    private final TestFile unzipDir = tmpDir.file("unzipped")
+
+    def cleanup() {
+        pool.shutdownNow()
+    }
+
+    def "extracts small archives on the current thread"() {
+        def entries = files(MIN_ENTRIES_FOR_CONCURRENT_EXTRACTION - 1)
+
+        when:
+        UnzipTransform.unzipTo(zip(entries), unzipDir, executor)
+
+        then:
+        submitted.get() == 0
+        assertExtracted(entries)
+    }
+
+    def "extracts archives with many entries concurrently"() {
+        def entries = files(MIN_ENTRIES_FOR_CONCURRENT_EXTRACTION)
+
+        when:
+        UnzipTransform.unzipTo(zip(entries), unzipDir, executor)
+
+        then:
+        submitted.get() == entries.size()
+        assertExtracted(entries)
+    }
+
+    def "creates parent directories regardless of where directory entries appear in the archive (concurrently = #concurrently)"() {
+        def entries = files(concurrently ? MIN_ENTRIES_FOR_CONCURRENT_EXTRACTION : 1)
+        entries["a/b/c/deep.txt"] = "deep"
+        entries["a/b/"] = null
+        entries["a/"] = null
+        entries["a/sibling.txt"] = "sibling"
+        entries["empty/"] = null
+
+        when:
+        UnzipTransform.unzipTo(zip(entries), unzipDir, executor)
+
+        then:
+        assertExtracted(entries.findAll { it.value != null })
+        unzipDir.file("a/b").isDirectory()
+        !unzipDir.file("empty").exists()
+
+        where:
+        concurrently << [false, true]
+    }
+
+    def "refuses to extract an entry outside of the target directory when extracting concurrently"() {
+        def entries = files(MIN_ENTRIES_FOR_CONCURRENT_EXTRACTION)
+        entries["../evil.txt"] = "evil"
+
+        when:
+        UnzipTransform.unzipTo(zip(entries), unzipDir, executor)
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "'../evil.txt' is not a safe archive entry or path name."
+        !tmpDir.file("evil.txt").exists()
+        submitted.get() == 0
+    }
+
+    private static Map<String, String> files(int count) {
+        Map<String, String> entries = [:]
+        count.times {
+            entries["dir${it % 8}/file${it}.txt".toString()] = "content of ${it}".toString()
+        }
+        entries
+    }
+
+    private TestFile zip(Map<String, String> entries) {
+        def zipFile = tmpDir.file("archive.zip")
+        new ZipOutputStream(zipFile.newOutputStream()).withCloseable { out ->
+            entries.each { name, content ->
+                out.putNextEntry(new ZipEntry(name))
+                if (content != null) {
+                    out.write(content.bytes)
+                }
+                out.closeEntry()
+            }
+        }
+        zipFile
+    }
+
+    private void assertExtracted(Map<String, String> entries) {
+        entries.each { name, content ->
+            assert unzipDir.file(name).text == content
+        }
+        assert unzipDir.allDescendants().size() == entries.size()
+    }
+}
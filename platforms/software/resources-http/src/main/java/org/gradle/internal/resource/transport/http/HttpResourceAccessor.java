@@ -16,9 +16,13 @@
 
 package org.gradle.internal.resource.transport.http;
 
+import org.apache.http.HttpStatus;
 import org.gradle.internal.IoActions;
+import org.gradle.internal.resource.ExternalResource;
 import org.gradle.internal.resource.ExternalResourceName;
+import org.gradle.internal.resource.ExternalResourceReadResult;
 import org.gradle.internal.resource.metadata.ExternalResourceMetaData;
+import org.gradle.internal.resource.metadata.ExternalResourceMetaDataCompare;
 import org.gradle.internal.resource.transfer.AbstractExternalResourceAccessor;
 import org.gradle.internal.resource.transfer.ExternalResourceAccessor;
 import org.slf4j.Logger;
@@ -26,6 +30,7 @@
 
 import javax.annotation.Nullable;
 import java.net.URI;
+import java.util.Date;
 
 public class HttpResourceAccessor extends AbstractExternalResourceAccessor implements ExternalResourceAccessor {
 
@@ -57,6 +62,35 @@ public HttpResponseResource getRawResource(final URI uri, boolean revalidate) {
         return wrapResponse(uri, response);
     }
 
+    @Nullable
+    @Override
+    public <T> ExternalResourceReadResult<T> withContentIfChanged(ExternalResourceName location, ExternalResourceMetaData cachedMetaData, ExternalResource.ContentAndMetadataAction<ExternalResourceReadResult<T>> action) {
+        String etag = cachedMetaData.getEtag();
+        Date lastModified = cachedMetaData.getLastModified();
+        if (lastModified != null && lastModified.getTime() == 0) {
+            // Servers that don't send a Last-Modified header are recorded with the epoch as last modified date
+            lastModified = null;
+        }
+        if (etag == null && lastModified == null) {
+            // Nothing to send as validator, compare the metadata instead
+            if (ExternalResourceMetaDataCompare.isDefinitelyUnchanged(cachedMetaData, () -> getMetaData(location, true))) {
+                return ExternalResourceReadResult.unchanged();
+            }
+            return withContent(location, true, action);
+        }
+
+        String uri = location.getUri().toString();
+        LOGGER.debug("Constructing external resource, if changed: {}", location);
+        HttpClientResponse response = http.performConditionalGet(uri, etag, lastModified);
+        HttpResponseResource resource = wrapResponse(location.getUri(), response);
+        if (resource.getStatusCode() == HttpStatus.SC_NOT_MODIFIED) {
+            LOGGER.debug("Resource {} has not changed.", location);
+            resource.close();
+            return ExternalResourceReadResult.unchanged();
+        }
+        return readContent(location, resource, action);
+    }
+
     @Override
     public ExternalResourceMetaData getMetaData(ExternalResourceName location, boolean revalidate) {
         String uri = location.getUri().toString();
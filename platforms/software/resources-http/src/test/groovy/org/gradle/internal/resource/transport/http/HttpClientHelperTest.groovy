@@ -75,6 +75,27 @@ class HttpClientHelperTest extends AbstractHttpClientTest {
         request.getHeaders("Cache-Control")[0].value == "max-age=0"
     }
 
+    def "conditional request adds validator headers"() {
+        HttpRequestBase request = null
+        def client = new HttpClientHelper(new DocumentationRegistry(), httpSettings) {
+            @Override
+            protected HttpClientResponse executeGetOrHead(HttpRequestBase method) {
+                request = method
+                throw new IOException("stop")
+            }
+        }
+
+        when:
+        client.performConditionalGet("http://gradle.org", '"abc"', new Date(0))
+
+        then:
+        thrown(HttpRequestException)
+        request.method == "GET"
+        request.getFirstHeader("If-None-Match").value == '"abc"'
+        request.getFirstHeader("If-Modified-Since").value == "Thu, 01 Jan 1970 00:00:00 GMT"
+        request.getFirstHeader("Cache-Control").value == "max-age=0"
+    }
+
     def "stripping user credentials removes username and password"() {
         given:
         def uri = new URI("https", "admin:password", "foo.example", 80, null, null, null)
@@ -16,9 +16,13 @@
 
 package org.gradle.internal.resource.transport.http
 
+import org.apache.http.HttpEntity
 import org.apache.http.StatusLine
 import org.apache.http.client.methods.CloseableHttpResponse
+import org.gradle.internal.resource.ExternalResource
 import org.gradle.internal.resource.ExternalResourceName
+import org.gradle.internal.resource.ExternalResourceReadResult
+import org.gradle.internal.resource.metadata.ExternalResourceMetaData
 import spock.lang.Specification
 
 class HttpResourceAccessorTest extends Specification {
@@ -38,10 +42,52 @@ class HttpResourceAccessorTest extends Specification {
         1 * response.close()
     }
 
-    private CloseableHttpResponse mockHttpResponse() {
+    def "does not read content when the server reports the resource as not modified"() {
+        def response = mockHttpResponse(304)
+        def cachedMetaData = Stub(ExternalResourceMetaData) {
+            getEtag() >> '"abc"'
+            getLastModified() >> null
+        }
+        def http = Mock(HttpClientHelper)
+        def action = Mock(ExternalResource.ContentAndMetadataAction)
+
+        when:
+        def result = new HttpResourceAccessor(http).withContentIfChanged(name, cachedMetaData, action)
+
+        then:
+        result.unchanged
+        1 * http.performConditionalGet(uri.toString(), '"abc"', null) >> new HttpClientResponse("GET", uri, response)
+        1 * response.close()
+        0 * action._
+    }
+
+    def "reads content when the server reports the resource as modified"() {
+        def response = mockHttpResponse(200)
+        response.getEntity() >> Stub(HttpEntity) {
+            getContent() >> new ByteArrayInputStream("content".bytes)
+        }
+        def lastModified = new Date(1000)
+        def cachedMetaData = Stub(ExternalResourceMetaData) {
+            getEtag() >> null
+            getLastModified() >> lastModified
+        }
+        def http = Mock(HttpClientHelper)
+
+        when:
+        def result = new HttpResourceAccessor(http).withContentIfChanged(name, cachedMetaData) { inputStream, metaData ->
+            ExternalResourceReadResult.of(7, inputStream.text)
+        }
+
+        then:
+        !result.unchanged
+        result.result == "content"
+        1 * http.performConditionalGet(uri.toString(), null, lastModified) >> new HttpClientResponse("GET", uri, response)
+    }
+
+    private CloseableHttpResponse mockHttpResponse(int statusCode = 200) {
         def response = Mock(CloseableHttpResponse)
         def statusLine = Mock(StatusLine)
-        statusLine.getStatusCode() >> 200
+        statusLine.getStatusCode() >> statusCode
         response.getStatusLine() >> statusLine
         response
     }
@@ -15,6 +15,10 @@
  */
 package org.gradle.internal.resource;
 
+import org.gradle.internal.resource.metadata.ExternalResourceMetaData;
+import org.gradle.internal.resource.metadata.ExternalResourceMetaDataCompare;
+
+import javax.annotation.Nullable;
 import java.io.File;
 
 public abstract class AbstractExternalResource implements ExternalResource {
@@ -49,4 +53,13 @@ public <T> ExternalResourceReadResult<T> withContent(ContentAndMetadataAction<?
         }
         return result;
     }
+
+    @Nullable
+    @Override
+    public <T> ExternalResourceReadResult<T> withContentIfChanged(ExternalResourceMetaData cachedMetaData, ContentAndMetadataAction<? extends T> readAction) {
+        if (ExternalResourceMetaDataCompare.isDefinitelyUnchanged(cachedMetaData, this::getMetaData)) {
+            return ExternalResourceReadResult.unchanged();
+        }
+        return withContentIfPresent(readAction);
+    }
 }
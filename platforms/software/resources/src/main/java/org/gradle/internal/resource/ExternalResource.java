@@ -109,6 +109,17 @@ public interface ExternalResource extends Resource {
     @Nullable
     <T> ExternalResourceReadResult<T> withContentIfPresent(ContentAndMetadataAction<? extends T> readAction) throws ResourceException;
 
+    /**
+     * Executes the given action against the binary contents and meta-data of this resource, unless the resource has not changed
+     * with respect to the given meta-data of a previously downloaded copy. Where the transport supports it, this is done using
+     * a single conditional request.
+     *
+     * @return null if the resource does not exist, or a result for which {@link ExternalResourceReadResult#isUnchanged()} is true if the resource has not changed.
+     * @throws ResourceException on failure to read the content.
+     */
+    @Nullable
+    <T> ExternalResourceReadResult<T> withContentIfChanged(ExternalResourceMetaData cachedMetaData, ContentAndMetadataAction<? extends T> readAction) throws ResourceException;
+
     /**
      * Copies the given content to this resource.
      *
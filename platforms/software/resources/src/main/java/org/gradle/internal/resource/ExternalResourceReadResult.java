@@ -23,20 +23,32 @@
  */
 public class ExternalResourceReadResult<T> {
 
+    private static final ExternalResourceReadResult<?> UNCHANGED = new ExternalResourceReadResult<Object>(0, null, true);
+
     private final long bytesRead;
     private final T result;
+    private final boolean unchanged;
 
-    private ExternalResourceReadResult(long bytesRead, T result) {
+    private ExternalResourceReadResult(long bytesRead, T result, boolean unchanged) {
         this.bytesRead = bytesRead;
         this.result = result;
+        this.unchanged = unchanged;
     }
 
     public static ExternalResourceReadResult<Void> of(long bytesRead) {
-        return new ExternalResourceReadResult<Void>(bytesRead, null);
+        return new ExternalResourceReadResult<Void>(bytesRead, null, false);
     }
 
     public static <T> ExternalResourceReadResult<T> of(long bytesRead, T t) {
-        return new ExternalResourceReadResult<T>(bytesRead, t);
+        return new ExternalResourceReadResult<T>(bytesRead, t, false);
+    }
+
+    /**
+     * The result of a conditional read, where the resource was not read because it has not changed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ExternalResourceReadResult<T> unchanged() {
+        return (ExternalResourceReadResult<T>) UNCHANGED;
     }
 
     /**
@@ -62,4 +74,11 @@ public long getBytesRead() {
     public T getResult() {
         return result;
     }
+
+    /**
+     * Whether the resource was not read, because it has not changed since a previously downloaded copy.
+     */
+    public boolean isUnchanged() {
+        return unchanged;
+    }
 }
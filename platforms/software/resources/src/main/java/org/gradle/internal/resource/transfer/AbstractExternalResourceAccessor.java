@@ -33,7 +33,14 @@ public <T> T withContent(ExternalResourceName location, boolean revalidate, Exte
         if (response == null) {
             return null;
         }
+        return readContent(location, response, action);
+    }
 
+    /**
+     * Applies the given action to the content of the given response, closing the response afterwards.
+     */
+    @Nullable
+    protected <T> T readContent(ExternalResourceName location, ExternalResourceReadResponse response, ExternalResource.ContentAndMetadataAction<T> action) throws ResourceException {
         try (InputStream inputStream = response.openStream();
              ExternalResourceReadResponse responseCloser = response) {
             return action.execute(inputStream, responseCloser.getMetaData());
@@ -108,6 +108,17 @@ public <T> ExternalResourceReadResult<T> withContentIfPresent(ContentAndMetadata
         });
     }
 
+    @Nullable
+    @Override
+    public <T> ExternalResourceReadResult<T> withContentIfChanged(ExternalResourceMetaData cachedMetaData, ContentAndMetadataAction<? extends T> readAction) throws ResourceException {
+        return accessor.withContentIfChanged(name, cachedMetaData, (inputStream, metadata) -> {
+            try (CountingInputStream stream = new CountingInputStream(new BufferedInputStream(inputStream))) {
+                T value = readAction.execute(stream, metadata);
+                return ExternalResourceReadResult.of(stream.getCount(), value);
+            }
+        });
+    }
+
     @Override
     public ExternalResourceReadResult<Void> withContent(Action<? super InputStream> readAction) throws ResourceException {
         ExternalResourceReadResult<Void> result = accessor.withContent(name, revalidate, inputStream -> {
@@ -19,6 +19,7 @@
 import org.gradle.api.resources.ResourceException;
 import org.gradle.internal.resource.ExternalResource;
 import org.gradle.internal.resource.ExternalResourceName;
+import org.gradle.internal.resource.ExternalResourceReadResult;
 import org.gradle.internal.resource.ReadableContent;
 import org.gradle.internal.resource.metadata.ExternalResourceMetaData;
 
@@ -59,6 +60,13 @@ public <T> T withContent(ExternalResourceName location, boolean revalidate, Exte
         return accessor.withContent(location, revalidate, action);
     }
 
+    @Nullable
+    @Override
+    public <T> ExternalResourceReadResult<T> withContentIfChanged(ExternalResourceName location, ExternalResourceMetaData cachedMetaData, ExternalResource.ContentAndMetadataAction<ExternalResourceReadResult<T>> action) throws ResourceException {
+        STATS.resource(location.getUri());
+        return accessor.withContentIfChanged(location, cachedMetaData, action);
+    }
+
     @Nullable
     @Override
     public ExternalResourceMetaData getMetaData(ExternalResourceName location, boolean revalidate) {
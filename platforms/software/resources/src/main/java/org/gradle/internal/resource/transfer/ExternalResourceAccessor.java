@@ -19,7 +19,9 @@
 import org.gradle.api.resources.ResourceException;
 import org.gradle.internal.resource.ExternalResource;
 import org.gradle.internal.resource.ExternalResourceName;
+import org.gradle.internal.resource.ExternalResourceReadResult;
 import org.gradle.internal.resource.metadata.ExternalResourceMetaData;
+import org.gradle.internal.resource.metadata.ExternalResourceMetaDataCompare;
 
 import javax.annotation.Nullable;
 
@@ -63,6 +65,29 @@ default <T> T withContent(ExternalResourceName location, boolean revalidate, Ext
         return withContent(location, revalidate, (inputStream, metaData) -> action.execute(inputStream));
     }
 
+    /**
+     * Reads the resource at the given location, unless it has not changed with respect to the given metadata of a previously downloaded copy.
+     * The resource is always revalidated.
+     *
+     * If the resource does not exist, this method should return null.
+     *
+     * The default implementation compares the metadata of the resource with the given metadata, and reads the resource when it may have changed.
+     * Implementations that support conditional requests can do this with a single request.
+     *
+     * @param location The address of the resource to obtain
+     * @param cachedMetaData The metadata of the previously downloaded copy of the resource
+     * @param action The action to apply to the content of the resource.
+     * @return The result of the action if the resource has changed, {@link ExternalResourceReadResult#unchanged()} if the resource has not changed, or null if the resource does not exist.
+     * @throws ResourceException If the resource may exist, but not could be obtained for some reason.
+     */
+    @Nullable
+    default <T> ExternalResourceReadResult<T> withContentIfChanged(ExternalResourceName location, ExternalResourceMetaData cachedMetaData, ExternalResource.ContentAndMetadataAction<ExternalResourceReadResult<T>> action) throws ResourceException {
+        if (ExternalResourceMetaDataCompare.isDefinitelyUnchanged(cachedMetaData, () -> getMetaData(location, true))) {
+            return ExternalResourceReadResult.unchanged();
+        }
+        return withContent(location, true, action);
+    }
+
     /**
      * Obtains only the metadata about the resource.
      *
@@ -76,4 +76,8 @@ class KeyServer extends HttpServer {
         registerKey(SigningFixtures.validPublicKeyHexString, publicKeyFile)
     }
 
+    void withoutKeys() {
+        keyFiles.clear()
+    }
+
 }
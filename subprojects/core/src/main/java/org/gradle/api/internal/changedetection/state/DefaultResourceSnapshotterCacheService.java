@@ -32,9 +32,15 @@
 public class DefaultResourceSnapshotterCacheService implements ResourceSnapshotterCacheService {
     private static final HashCode NO_HASH = Hashing.signature(CachingResourceHasher.class.getName() + " : no hash");
     private final IndexedCache<HashCode, HashCode> indexedCache;
+    private final ResourceSnapshotterCacheStatistics.Collector statisticsCollector;
 
     public DefaultResourceSnapshotterCacheService(IndexedCache<HashCode, HashCode> indexedCache) {
+        this(indexedCache, new ResourceSnapshotterCacheStatistics.Collector());
+    }
+
+    public DefaultResourceSnapshotterCacheService(IndexedCache<HashCode, HashCode> indexedCache, ResourceSnapshotterCacheStatistics.Collector statisticsCollector) {
         this.indexedCache = indexedCache;
+        this.statisticsCollector = statisticsCollector;
     }
 
     @Nullable
@@ -55,12 +61,14 @@ private HashCode hashFile(FileSystemLocationSnapshot snapshot, IoSupplier<HashCo
 
         HashCode resourceHash = indexedCache.getIfPresent(resourceHashCacheKey);
         if (resourceHash != null) {
+            statisticsCollector.reportHit();
             if (resourceHash.equals(NO_HASH)) {
                 return null;
             }
             return resourceHash;
         }
 
+        statisticsCollector.reportMiss();
         resourceHash = hashCodeSupplier.get();
 
         if (resourceHash != null) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state;
+
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+
+import java.text.MessageFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+public interface ResourceSnapshotterCacheStatistics {
+    /**
+     * Number of resource hashes, e.g. the ABI or runtime classpath hash of a jar, found in the cache.
+     */
+    long getHitCount();
+
+    /**
+     * Number of resource hashes not found in the cache, which had to be computed.
+     */
+    long getMissCount();
+
+    @ServiceScope(Scope.Global.class)
+    class Collector {
+        private final AtomicLong hitCount = new AtomicLong();
+        private final AtomicLong missCount = new AtomicLong();
+
+        public void reportHit() {
+            hitCount.incrementAndGet();
+        }
+
+        public void reportMiss() {
+            missCount.incrementAndGet();
+        }
+
+        public ResourceSnapshotterCacheStatistics collect() {
+            long hitCount = this.hitCount.getAndSet(0);
+            long missCount = this.missCount.getAndSet(0);
+            return new ResourceSnapshotterCacheStatistics() {
+                @Override
+                public long getHitCount() {
+                    return hitCount;
+                }
+
+                @Override
+                public long getMissCount() {
+                    return missCount;
+                }
+
+                @Override
+                public String toString() {
+                    return MessageFormat.format("Found {0,number,integer} resource hashes in the cache, computed {1,number,integer} resource hashes",
+                        hitCount, missCount
+                    );
+                }
+            };
+        }
+    }
+}
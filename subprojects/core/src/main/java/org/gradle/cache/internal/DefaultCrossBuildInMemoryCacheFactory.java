@@ -16,6 +16,8 @@
 
 package org.gradle.cache.internal;
 
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
 import org.gradle.cache.ManualEvictionInMemoryCache;
 import org.gradle.internal.session.BuildSessionLifecycleListener;
 import org.gradle.internal.classloader.VisitableURLClassLoader;
@@ -241,6 +243,7 @@ private Map<Class<?>, V> getCacheScope(Class<?> type) {
     }
 
     private static class CrossBuildCacheRetainingDataFromPreviousBuild<K, V> implements CrossBuildInMemoryCache<K, V>, BuildSessionLifecycleListener {
+        private static final Logger LOGGER = Logging.getLogger(CrossBuildCacheRetainingDataFromPreviousBuild.class);
         private final ManualEvictionInMemoryCache<K, V> delegate = new ManualEvictionInMemoryCache<>();
         private final ConcurrentMap<K, Boolean> keysFromPreviousBuild = new ConcurrentHashMap<>();
         private final ConcurrentMap<K, Boolean> keysFromCurrentBuild = new ConcurrentHashMap<>();
@@ -289,7 +292,10 @@ public void beforeComplete() {
             keysToRetain.addAll(keysFromPreviousBuild.keySet());
             keysToRetain.addAll(keysFromCurrentBuild.keySet());
 
-            delegate.retainAll(keysToRetain);
+            int evicted = delegate.retainAll(keysToRetain);
+            if (evicted > 0) {
+                LOGGER.debug("Evicted {} entries not used in the last two builds, retained {} entries.", evicted, keysToRetain.size());
+            }
 
             keysFromPreviousBuild.clear();
             keysFromPreviousBuild.putAll(keysFromCurrentBuild);
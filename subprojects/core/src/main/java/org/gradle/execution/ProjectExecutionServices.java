@@ -47,6 +47,7 @@
 import org.gradle.internal.execution.history.ExecutionHistoryStore;
 import org.gradle.internal.execution.impl.DefaultFileCollectionFingerprinterRegistry;
 import org.gradle.internal.execution.impl.DefaultInputFingerprinter;
+import org.gradle.internal.execution.impl.InputFingerprintingExecutor;
 import org.gradle.internal.file.DefaultReservedFileSystemLocationRegistry;
 import org.gradle.internal.file.RelativeFilePathResolver;
 import org.gradle.internal.file.ReservedFileSystemLocation;
@@ -55,6 +56,7 @@
 import org.gradle.internal.hash.ClassLoaderHierarchyHasher;
 import org.gradle.internal.operations.BuildOperationRunner;
 import org.gradle.internal.service.DefaultServiceRegistry;
+import org.gradle.internal.service.scopes.VirtualFileSystemServices.FileSystemAccessExecutor;
 import org.gradle.internal.snapshot.ValueSnapshotter;
 import org.gradle.internal.work.AsyncWorkTracker;
 import org.gradle.normalization.internal.InputNormalizationHandlerInternal;
@@ -132,7 +134,8 @@ FileCollectionFingerprinterRegistrations createFileCollectionFingerprinterRegist
         StringInterner stringInterner,
         FileCollectionSnapshotter fileCollectionSnapshotter,
         ResourceSnapshotterCacheService resourceSnapshotterCacheService,
-        InputNormalizationHandlerInternal inputNormalizationHandler
+        InputNormalizationHandlerInternal inputNormalizationHandler,
+        FileSystemAccessExecutor executor
     ) {
         return new FileCollectionFingerprinterRegistrations(
             stringInterner,
@@ -140,7 +143,8 @@ FileCollectionFingerprinterRegistrations createFileCollectionFingerprinterRegist
             resourceSnapshotterCacheService,
             inputNormalizationHandler.getRuntimeClasspath().getClasspathResourceFilter(),
             inputNormalizationHandler.getRuntimeClasspath().getManifestAttributeResourceEntryFilter(),
-            inputNormalizationHandler.getRuntimeClasspath().getPropertiesFileFilters()
+            inputNormalizationHandler.getRuntimeClasspath().getPropertiesFileFilters(),
+            executor
         );
     }
 
@@ -151,9 +155,10 @@ FileCollectionFingerprinterRegistry createFileCollectionFingerprinterRegistry(Fi
     InputFingerprinter createInputFingerprinter(
         FileCollectionSnapshotter snapshotter,
         FileCollectionFingerprinterRegistry fingerprinterRegistry,
-        ValueSnapshotter valueSnapshotter
+        ValueSnapshotter valueSnapshotter,
+        InputFingerprintingExecutor fingerprintingExecutor
     ) {
-        return new DefaultInputFingerprinter(snapshotter, fingerprinterRegistry, valueSnapshotter);
+        return new DefaultInputFingerprinter(snapshotter, fingerprinterRegistry, valueSnapshotter, fingerprintingExecutor);
     }
 
     TaskExecutionModeResolver createExecutionModeResolver(
@@ -51,10 +51,14 @@
 import org.gradle.internal.build.DefaultBuildLifecycleControllerFactory;
 import org.gradle.internal.buildoption.DefaultFeatureFlags;
 import org.gradle.internal.buildoption.DefaultInternalOptions;
+import org.gradle.internal.buildoption.InternalFlag;
 import org.gradle.internal.buildoption.InternalOptions;
+import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.WorkerLimits;
 import org.gradle.internal.enterprise.core.GradleEnterprisePluginManager;
 import org.gradle.internal.event.ListenerManager;
 import org.gradle.internal.event.ScopedListenerManager;
+import org.gradle.internal.execution.impl.InputFingerprintingExecutor;
 import org.gradle.internal.id.ConfigurationCacheableIdFactory;
 import org.gradle.internal.instantiation.InstantiatorFactory;
 import org.gradle.internal.problems.DefaultProblemDiagnosticsFactory;
@@ -70,6 +74,11 @@
  * Contains the singleton services for a single build tree which consists of one or more builds.
  */
 public class BuildTreeScopeServices {
+    /**
+     * Whether the input file properties of a unit of work are fingerprinted concurrently.
+     */
+    private static final InternalFlag PARALLEL_INPUT_FINGERPRINTING = new InternalFlag("org.gradle.internal.execution.parallel-input-fingerprinting");
+
     private final BuildInvocationScopeId buildInvocationScopeId;
     private final BuildTreeState buildTree;
     private final BuildTreeModelControllerServices.Supplier modelServices;
@@ -126,6 +135,13 @@ protected InternalOptions createInternalOptions(StartParameter startParameter) {
         return new DefaultInternalOptions(startParameter.getSystemPropertiesArgs());
     }
 
+    protected InputFingerprintingExecutor createInputFingerprintingExecutor(InternalOptions options, ExecutorFactory executorFactory, WorkerLimits workerLimits) {
+        if (options.getOption(PARALLEL_INPUT_FINGERPRINTING).get()) {
+            return InputFingerprintingExecutor.parallel(executorFactory.create("Input fingerprinting", workerLimits.getMaxWorkerCount()));
+        }
+        return InputFingerprintingExecutor.serial();
+    }
+
     protected TaskSelector createTaskSelector(ProjectConfigurer projectConfigurer, ObjectFactory objectFactory) {
         return objectFactory.newInstance(DefaultTaskSelector.class, new TaskNameResolver(), projectConfigurer);
     }
@@ -28,7 +28,9 @@
 import org.gradle.internal.fingerprint.classpath.ClasspathFingerprinter;
 import org.gradle.internal.fingerprint.impl.AbstractFileCollectionFingerprinter;
 
+import javax.annotation.Nullable;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public class DefaultClasspathFingerprinter extends AbstractFileCollectionFingerprinter implements ClasspathFingerprinter {
     public DefaultClasspathFingerprinter(
@@ -38,7 +40,8 @@ public DefaultClasspathFingerprinter(
         ResourceEntryFilter manifestAttributeResourceEntryFilter,
         Map<String, ResourceEntryFilter> propertiesFileFilters,
         StringInterner stringInterner,
-        LineEndingSensitivity lineEndingSensitivity
+        LineEndingSensitivity lineEndingSensitivity,
+        @Nullable Executor nestedZipExecutor
     ) {
         super(
             ClasspathFingerprintingStrategy.runtimeClasspath(
@@ -48,7 +51,8 @@ public DefaultClasspathFingerprinter(
                 new RuntimeClasspathResourceHasher(),
                 cacheService,
                 stringInterner,
-                lineEndingSensitivity
+                lineEndingSensitivity,
+                nestedZipExecutor
             ),
             fileCollectionSnapshotter
         );
@@ -31,6 +31,7 @@
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class DefaultFileCollectionSnapshotter implements FileCollectionSnapshotter {
     private final FileSystemAccess fileSystemAccess;
@@ -43,10 +44,9 @@ public DefaultFileCollectionSnapshotter(FileSystemAccess fileSystemAccess, Stat
 
     @Override
     public Result snapshot(FileCollection fileCollection) {
-        SnapshottingVisitor visitor = new SnapshottingVisitor();
-        ((FileCollectionInternal) fileCollection).visitStructure(visitor);
-        FileSystemSnapshot snapshot = CompositeFileSystemSnapshot.of(visitor.getRoots());
-        boolean containsArchiveTrees = visitor.containsArchiveTrees();
+        Roots roots = resolveRoots(fileCollection);
+        FileSystemSnapshot snapshot = roots.snapshot();
+        boolean containsArchiveTrees = roots.containsArchiveTrees();
         return new Result() {
             @Override
             public FileSystemSnapshot getSnapshot() {
@@ -60,34 +60,58 @@ public boolean containsArchiveTrees() {
         };
     }
 
-    private class SnapshottingVisitor implements FileCollectionStructureVisitor {
-        private final List<FileSystemSnapshot> roots = new ArrayList<>();
+    @Override
+    public Roots resolveRoots(FileCollection fileCollection) {
+        RootResolvingVisitor visitor = new RootResolvingVisitor();
+        ((FileCollectionInternal) fileCollection).visitStructure(visitor);
+        List<Consumer<List<FileSystemSnapshot>>> rootReaders = visitor.getRootReaders();
+        boolean containsArchiveTrees = visitor.containsArchiveTrees();
+        return new Roots() {
+            @Override
+            public boolean containsArchiveTrees() {
+                return containsArchiveTrees;
+            }
+
+            @Override
+            public FileSystemSnapshot snapshot() {
+                List<FileSystemSnapshot> roots = new ArrayList<>();
+                for (Consumer<List<FileSystemSnapshot>> rootReader : rootReaders) {
+                    rootReader.accept(roots);
+                }
+                return CompositeFileSystemSnapshot.of(roots);
+            }
+        };
+    }
+
+    private class RootResolvingVisitor implements FileCollectionStructureVisitor {
+        private final List<Consumer<List<FileSystemSnapshot>>> rootReaders = new ArrayList<>();
         private boolean containsArchiveTrees;
 
         @Override
         public void visitCollection(FileCollectionInternal.Source source, Iterable<File> contents) {
+            List<String> locations = new ArrayList<>();
             for (File file : contents) {
-                roots.add(fileSystemAccess.read(file.getAbsolutePath()));
+                locations.add(file.getAbsolutePath());
             }
+            rootReaders.add(roots -> roots.addAll(fileSystemAccess.read(locations)));
         }
 
         @Override
         public void visitFileTree(File root, PatternSet patterns, FileTreeInternal fileTree) {
-            fileSystemAccess.read(
-                root.getAbsolutePath(),
-                new PatternSetSnapshottingFilter(patterns, stat)
-            )
-                .map(roots::add);
+            String location = root.getAbsolutePath();
+            PatternSetSnapshottingFilter filter = new PatternSetSnapshottingFilter(patterns, stat);
+            rootReaders.add(roots -> fileSystemAccess.read(location, filter).ifPresent(roots::add));
         }
 
         @Override
         public void visitFileTreeBackedByFile(File file, FileTreeInternal fileTree, FileSystemMirroringFileTree sourceTree) {
-            roots.add(fileSystemAccess.read(file.getAbsolutePath()));
+            String location = file.getAbsolutePath();
+            rootReaders.add(roots -> roots.add(fileSystemAccess.read(location)));
             containsArchiveTrees = true;
         }
 
-        public List<FileSystemSnapshot> getRoots() {
-            return roots;
+        public List<Consumer<List<FileSystemSnapshot>>> getRootReaders() {
+            return rootReaders;
         }
 
         public boolean containsArchiveTrees() {
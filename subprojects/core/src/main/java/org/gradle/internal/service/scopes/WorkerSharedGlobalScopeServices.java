@@ -39,6 +39,7 @@
 import org.gradle.internal.classloader.DefaultClassLoaderFactory;
 import org.gradle.internal.classpath.ClassPath;
 import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
 import org.gradle.internal.event.ListenerManager;
 import org.gradle.internal.file.Deleter;
 import org.gradle.internal.file.impl.DefaultDeleter;
@@ -78,6 +79,7 @@
 import static org.gradle.api.internal.provider.ManagedFactories.SetPropertyManagedFactory;
 
 public class WorkerSharedGlobalScopeServices extends BasicGlobalScopeServices {
+    private static final int MAX_DELETION_THREADS = 4;
 
     protected final ClassPath additionalModuleClassPath;
 
@@ -125,8 +127,9 @@ StreamHasher createStreamHasher() {
         return new DefaultStreamHasher();
     }
 
-    Deleter createDeleter(Clock clock, FileSystem fileSystem, OperatingSystem os) {
-        return new DefaultDeleter(clock::getCurrentTime, fileSystem::isSymlink, os.isWindows());
+    Deleter createDeleter(Clock clock, FileSystem fileSystem, OperatingSystem os, ExecutorFactory executorFactory) {
+        ManagedExecutor executor = executorFactory.create("File deletion", Math.min(MAX_DELETION_THREADS, Runtime.getRuntime().availableProcessors()));
+        return new DefaultDeleter(clock::getCurrentTime, fileSystem::isSymlink, os.isWindows(), executor);
     }
 
     PropertyFactory createPropertyFactory(PropertyHost propertyHost) {
@@ -33,7 +33,8 @@ class DefaultResourceSnapshotterCacheServiceTest extends Specification {
     def path = "some"
     def snapshot = new RegularFileSnapshot(path, "path", TestHashCodes.hashCodeFrom(456), DefaultFileMetadata.file(3456, 456, FileMetadata.AccessType.DIRECT))
     def snapshotContext = new DefaultRegularFileSnapshotContext({path}, snapshot)
-    def snapshotterCache = new DefaultResourceSnapshotterCacheService(new TestInMemoryIndexedCache(new HashCodeSerializer()))
+    def statisticsCollector = new ResourceSnapshotterCacheStatistics.Collector()
+    def snapshotterCache = new DefaultResourceSnapshotterCacheService(new TestInMemoryIndexedCache(new HashCodeSerializer()), statisticsCollector)
 
     def "returns result from delegate"() {
         def expectedHash = TestHashCodes.hashCodeFrom(123)
@@ -78,6 +79,25 @@ class DefaultResourceSnapshotterCacheServiceTest extends Specification {
         0 * _
     }
 
+    def "reports cache hits and misses"() {
+        def expectedHash = TestHashCodes.hashCodeFrom(123)
+        when:
+        snapshotterCache.hashFile(snapshotContext, delegate, configurationHash)
+        snapshotterCache.hashFile(snapshotContext, delegate, configurationHash)
+        snapshotterCache.hashFile(snapshotContext, delegate, configurationHash)
+        def statistics = statisticsCollector.collect()
+        then:
+        1 * delegate.hash(snapshotContext) >> expectedHash
+        statistics.hitCount == 2
+        statistics.missCount == 1
+
+        when:
+        statistics = statisticsCollector.collect()
+        then:
+        statistics.hitCount == 0
+        statistics.missCount == 0
+    }
+
     private HashCode getConfigurationHash() {
         def hasher = Hashing.newHasher()
         hasher.putString(delegate.getClass().getName())
@@ -24,8 +24,10 @@ import org.gradle.api.internal.file.temp.TemporaryFileProvider
 import org.gradle.api.resources.internal.LocalResourceAdapter
 import org.gradle.api.tasks.util.PatternFilterable
 import org.gradle.internal.Factory
+import org.gradle.internal.snapshot.FileSystemLocationSnapshot
 import org.gradle.internal.snapshot.FileSystemSnapshot
 import org.gradle.internal.snapshot.RegularFileSnapshot
+import org.gradle.internal.vfs.FileSystemAccess
 import org.gradle.test.fixtures.file.TestFile
 import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
 import org.junit.Rule
@@ -81,6 +83,27 @@ class DefaultFileCollectionSnapshotterTest extends Specification {
         assertEmptyTree(fromConfigurableFiles.matching { exclude(file.name) })
     }
 
+    def "resolves roots without reading them from the file system"() {
+        def fileSystemAccess = Mock(FileSystemAccess)
+        def snapshotter = new DefaultFileCollectionSnapshotter(fileSystemAccess, TestFiles.fileSystem())
+        def file = tmpDir.file("file.txt")
+        def fileSnapshot = Stub(FileSystemLocationSnapshot)
+
+        when:
+        def roots = snapshotter.resolveRoots(TestFiles.fixed(file))
+
+        then:
+        0 * fileSystemAccess._
+        !roots.containsArchiveTrees()
+
+        when:
+        def snapshot = roots.snapshot()
+
+        then:
+        1 * fileSystemAccess.read([file.absolutePath]) >> [fileSnapshot]
+        snapshot == fileSnapshot
+    }
+
     def "snapshots archive trees as RegularFileSnapshot"() {
         given:
         def tempDir = tmpDir.createDir('tmpDir')
@@ -66,6 +66,12 @@ trait FileSystemWatchingFixture {
             return numberMatcher[0][1] as int
         }
 
+        int getHashedFilesInCurrentBuild() {
+            def hasherStatistics = spec.result.getPostBuildOutputLineThatContains("VFS> > FileHasher: ")
+            def numberMatcher = hasherStatistics =~ /Hashed (\d+) files \((\d+) bytes\)/
+            return numberMatcher[0][1] as int
+        }
+
         int getReceivedFileSystemEventsSinceLastBuild() {
             String eventsSinceLastBuild = spec.result.getOutputLineThatContains("file system events since last build")
             def numberMatcher = eventsSinceLastBuild =~ /Received (\d+) file system events since last build while watching \d+ locations/
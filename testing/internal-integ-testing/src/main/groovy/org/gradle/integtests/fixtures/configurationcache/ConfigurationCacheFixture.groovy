@@ -284,6 +284,9 @@ class ConfigurationCacheFixture {
         if (invalidationDetails.changedSystemProperty != null) {
             reasons.add("system property '$invalidationDetails.changedSystemProperty'")
         }
+        if (invalidationDetails.changedSystemPropertiesPrefix != null) {
+            reasons.add("the set of system properties prefixed by '$invalidationDetails.changedSystemPropertiesPrefix'")
+        }
         if (invalidationDetails.changedTask != null) {
             reasons.add("an input to task '${invalidationDetails.changedTask}'")
         }
@@ -358,6 +361,7 @@ class ConfigurationCacheFixture {
         List<String> changedFiles = []
         boolean changedGradleProperty
         String changedSystemProperty
+        String changedSystemPropertiesPrefix
         String changedTask
 
         void fileChanged(String name) {
@@ -375,6 +379,10 @@ class ConfigurationCacheFixture {
         void systemPropertyChanged(String name) {
             changedSystemProperty = name
         }
+
+        void systemPropertiesPrefixedByChanged(String prefix) {
+            changedSystemPropertiesPrefix = prefix
+        }
     }
 
     static class StateStoreDetails implements HasBuildActions {
@@ -62,6 +62,10 @@ abstract class HttpResource extends AbstractHttpResource {
         server.expectGetRevalidate(getPath(), file)
     }
 
+    void expectConditionalGet() {
+        server.expectConditionalGet(getPath(), file)
+    }
+
     void expectHead() {
         server.expectHead(getPath(), file)
     }
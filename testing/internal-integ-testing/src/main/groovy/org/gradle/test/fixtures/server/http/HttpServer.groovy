@@ -22,6 +22,7 @@ import groovy.transform.CompileStatic
 import groovy.xml.MarkupBuilder
 import org.gradle.api.credentials.PasswordCredentials
 import org.gradle.internal.credentials.DefaultPasswordCredentials
+import org.gradle.internal.hash.HashCode
 import org.gradle.internal.hash.Hashing
 import org.gradle.test.fixtures.server.ExpectOne
 import org.gradle.test.fixtures.server.ForbidOne
@@ -43,6 +44,7 @@ import org.slf4j.LoggerFactory
 import javax.servlet.ServletException
 import javax.servlet.http.HttpServletRequest
 import javax.servlet.http.HttpServletResponse
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 import java.util.zip.GZIPOutputStream
@@ -89,6 +91,9 @@ class HttpServer extends ServerWithExpectations implements HttpServerFixture {
     boolean sendLastModified = true
     boolean sendSha1Header = false
 
+    // The content last sent for each file, used to answer conditional requests
+    final Map<File, HashCode> sentContent = new ConcurrentHashMap<>()
+
     // by default, all hashes are supported
     Set<SupportedHash> supportedHashes = EnumSet.allOf(SupportedHash)
 
@@ -415,6 +420,30 @@ class HttpServer extends ServerWithExpectations implements HttpServerFixture {
         return expect(path, false, ['GET'], revalidateFileHandler(path, srcFile))
     }
 
+    /**
+     * Expects one revalidating conditional GET request for the given URL. The request is answered with 304 Not Modified when the given file has not
+     * changed since it was last sent and has not been modified after the date sent by the client. Otherwise, reads the request content from the given file.
+     */
+    HttpResourceInteraction expectConditionalGet(String path, File srcFile) {
+        return expect(path, false, ['GET'], new ActionSupport("return contents of $srcFile.name if modified") {
+            void handle(HttpServletRequest request, HttpServletResponse response) {
+                long ifModifiedSince = request.getDateHeader(HttpHeader.IF_MODIFIED_SINCE.asString())
+                if (ifModifiedSince < 0) {
+                    response.sendError(412, "Precondition Failed: Expected If-Modified-Since header")
+                } else if (sentContent[srcFile] == Hashing.sha1().hashBytes(srcFile.bytes) && srcFile.lastModified().intdiv(1000) <= ifModifiedSince.intdiv(1000)) {
+                    String cacheControl = request.getHeader("Cache-Control")
+                    if (cacheControl != "max-age=0") {
+                        response.sendError(412, String.format("Precondition Failed: Expected Cache-Control:max-age=0 but was '%s'", cacheControl))
+                    } else {
+                        response.setStatus(HttpStatus.NOT_MODIFIED_304)
+                    }
+                } else {
+                    revalidateFileHandler(path, srcFile).handle(request, response)
+                }
+            }
+        })
+    }
+
     /**
      * Expects one GET request for the given URL, with the given credentials. Reads the request content from the given file.
      */
@@ -561,6 +590,7 @@ class HttpServer extends ServerWithExpectations implements HttpServerFixture {
         }
 
         addEtag(response, content, etags)
+        sentContent[file] = Hashing.sha1().hashBytes(content)
         response.outputStream << content
     }
 